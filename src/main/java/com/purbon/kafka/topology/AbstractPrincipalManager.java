@@ -6,6 +6,7 @@ import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.User;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -20,14 +21,14 @@ import org.apache.logging.log4j.Logger;
 abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
 
   private static final Logger LOGGER = LogManager.getLogger(AbstractPrincipalManager.class);
-  private final List<String> managedPrefixes;
+  private final PrefixMatcher managedPrefixes;
   protected PrincipalProvider provider;
   protected Configuration config;
 
   public AbstractPrincipalManager(PrincipalProvider provider, Configuration config) {
     this.provider = provider;
     this.config = config;
-    this.managedPrefixes = config.getServiceAccountManagedPrefixes();
+    this.managedPrefixes = new PrefixMatcher(config.getServiceAccountManagedPrefixes());
   }
 
   @Override
@@ -65,10 +66,8 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String principal) {
-    boolean matches =
-        managedPrefixes.size() == 0 || managedPrefixes.stream().anyMatch(principal::startsWith);
-    LOGGER.debug(
-        String.format("Principal %s matches %s with $s", principal, matches, managedPrefixes));
+    boolean matches = managedPrefixes.isEmpty() || managedPrefixes.matches(principal);
+    LOGGER.debug("Principal {} matches {} with {}", principal, matches, managedPrefixes);
     return matches;
   }
 
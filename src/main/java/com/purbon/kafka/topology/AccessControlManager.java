@@ -23,6 +23,7 @@ import com.purbon.kafka.topology.model.users.platform.ControlCenterInstance;
 import com.purbon.kafka.topology.model.users.platform.KsqlServerInstance;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistryInstance;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.*;
@@ -37,9 +38,9 @@ public class AccessControlManager implements ExecutionPlanUpdater {
   private final Configuration config;
   private AccessControlProvider controlProvider;
   private BindingsBuilderProvider bindingsBuilder;
-  private final List<String> managedServiceAccountPrefixes;
-  private final List<String> managedTopicPrefixes;
-  private final List<String> managedGroupPrefixes;
+  private final PrefixMatcher managedServiceAccountPrefixes;
+  private final PrefixMatcher managedTopicPrefixes;
+  private final PrefixMatcher managedGroupPrefixes;
 
   public AccessControlManager(
       AccessControlProvider controlProvider, BindingsBuilderProvider builderProvider) {
@@ -53,9 +54,10 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     this.controlProvider = controlProvider;
     this.bindingsBuilder = builderProvider;
     this.config = config;
-    this.managedServiceAccountPrefixes = config.getServiceAccountManagedPrefixes();
-    this.managedTopicPrefixes = config.getTopicManagedPrefixes();
-    this.managedGroupPrefixes = config.getGroupManagedPrefixes();
+    this.managedServiceAccountPrefixes =
+        new PrefixMatcher(config.getServiceAccountManagedPrefixes());
+    this.managedTopicPrefixes = new PrefixMatcher(config.getTopicManagedPrefixes());
+    this.managedGroupPrefixes = new PrefixMatcher(config.getGroupManagedPrefixes());
   }
 
   /**
@@ -282,9 +284,9 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     return matchesPrefix(managedServiceAccountPrefixes, principal, "Principal");
   }
 
-  private boolean matchesPrefix(List<String> prefixes, String item, String type) {
-    boolean matches = prefixes.size() == 0 || prefixes.stream().anyMatch(item::startsWith);
-    LOGGER.debug(String.format("%s %s matches %s with $s", type, item, matches, prefixes));
+  private boolean matchesPrefix(PrefixMatcher prefixes, String item, String type) {
+    boolean matches = prefixes.isEmpty() || prefixes.matches(item);
+    LOGGER.debug("{} {} matches {} with {}", type, item, matches, prefixes);
     return matches;
   }
 
@@ -376,4 +378,9 @@ public class AccessControlManager implements ExecutionPlanUpdater {
               aclBindings.forEach(out::println);
             });
   }
+
+  public void close() {
+    controlProvider.close();
+    bindingsBuilder.close();
+  }
 }
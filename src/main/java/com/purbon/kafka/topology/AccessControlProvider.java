@@ -11,9 +11,17 @@ public interface AccessControlProvider {
 
   void createBindings(Set<TopologyAclBinding> bindings) throws IOException;
 
-  void clearBindings(Set<TopologyAclBinding> bindings) throws IOException;
+  /**
+   * Remove a set of bindings.
+   *
+   * @param bindings the bindings to remove
+   * @return the bindings that were removed
+   */
+  Set<TopologyAclBinding> clearBindings(Set<TopologyAclBinding> bindings) throws IOException;
 
   default Map<String, List<TopologyAclBinding>> listAcls() {
     return new HashMap<>();
   }
+
+  default void close() {}
 }
@@ -4,6 +4,7 @@ import static com.purbon.kafka.topology.Constants.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
 import com.purbon.kafka.topology.api.mds.MDSApiClientBuilder;
 import com.purbon.kafka.topology.roles.CCloudAclsProvider;
@@ -20,14 +21,24 @@ public class AccessControlProviderFactory {
   private final Configuration config;
   private final TopologyBuilderAdminClient builderAdminClient;
   private final MDSApiClientBuilder mdsApiClientBuilder;
+  private final ServiceAccountCache serviceAccounts;
 
   public AccessControlProviderFactory(
       Configuration config,
       TopologyBuilderAdminClient builderAdminClient,
       MDSApiClientBuilder mdsApiClientBuilder) {
+    this(config, builderAdminClient, mdsApiClientBuilder, new ServiceAccountCache(new CCloudCLI()));
+  }
+
+  public AccessControlProviderFactory(
+      Configuration config,
+      TopologyBuilderAdminClient builderAdminClient,
+      MDSApiClientBuilder mdsApiClientBuilder,
+      ServiceAccountCache serviceAccounts) {
     this.config = config;
     this.builderAdminClient = builderAdminClient;
     this.mdsApiClientBuilder = mdsApiClientBuilder;
+    this.serviceAccounts = serviceAccounts;
   }
 
   public AccessControlProvider get() throws IOException {
@@ -39,20 +50,23 @@ public class AccessControlProviderFactory {
       switch (accessControlClassName) {
         case ACCESS_CONTROL_DEFAULT_CLASS:
           Constructor<?> aclsProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class);
-          return (SimpleAclsProvider) aclsProviderConstructor.newInstance(builderAdminClient);
+              clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
+          return (SimpleAclsProvider)
+              aclsProviderConstructor.newInstance(builderAdminClient, config);
         case CONFLUENT_CLOUD_CONTROL_CLASS:
           Constructor<?> ccloudProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
+              clazz.getConstructor(
+                  TopologyBuilderAdminClient.class, Configuration.class, ServiceAccountCache.class);
           return (CCloudAclsProvider)
-              ccloudProviderConstructor.newInstance(builderAdminClient, config);
+              ccloudProviderConstructor.newInstance(builderAdminClient, config, serviceAccounts);
         case RBAC_ACCESS_CONTROL_CLASS:
-          Constructor<?> rbacProviderConstructor = clazz.getConstructor(MDSApiClient.class);
+          Constructor<?> rbacProviderConstructor =
+              clazz.getConstructor(MDSApiClient.class, Configuration.class);
           MDSApiClient apiClient = apiClientLogIn();
           if (!config.doValidate()) {
             apiClient.authenticate();
           }
-          return (RBACProvider) rbacProviderConstructor.newInstance(apiClient);
+          return (RBACProvider) rbacProviderConstructor.newInstance(apiClient, config);
         default:
           throw new IOException("Unknown access control provided. " + accessControlClassName);
       }
@@ -65,7 +79,7 @@ public class AccessControlProviderFactory {
     String accessControlClass = config.getAccessControlClassName();
 
     CCloudCLI cCloudApi = new CCloudCLI();
-    CCloudUtils cCloudUtils = new CCloudUtils(cCloudApi, config);
+    CCloudUtils cCloudUtils = new CCloudUtils(cCloudApi, serviceAccounts, config);
 
     try {
       if (accessControlClass.equalsIgnoreCase(ACCESS_CONTROL_DEFAULT_CLASS)) {
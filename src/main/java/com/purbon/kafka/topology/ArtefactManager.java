@@ -7,6 +7,10 @@ import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.Topology;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -40,18 +44,9 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
     Collection<? extends Artefact> currentArtefacts = loadActualClusterStateIfAvailable(plan);
 
     Set<? extends Artefact> artefacts = parseNewArtefacts(topology);
-    for (Artefact artefact : artefacts) {
-      if (!currentArtefacts.contains(artefact)) {
-        ArtefactClient client = selectClient(artefact);
-        if (client == null) {
-          throw new IOException(
-              "The Artefact "
-                  + artefact.getName()
-                  + " require a non configured client, please check our configuration");
-        }
-        plan.add(new CreateArtefactAction(client, rootPath(), currentArtefacts, artefact));
-      }
-    }
+    List<? extends Artefact> toBeCreated =
+        artefacts.stream().filter(a -> !currentArtefacts.contains(a)).collect(Collectors.toList());
+    addCreateActions(plan, currentArtefacts, toBeCreated);
 
     if (isAllowDelete()) {
       List<? extends Artefact> toBeDeleted =
@@ -61,25 +56,115 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
 
       if (toBeDeleted.size() > 0) {
         LOGGER.debug("Artefacts to be deleted: " + StringUtils.join(toBeDeleted, ","));
-        for (Artefact artefact : toBeDeleted) {
-          ArtefactClient client = selectClient(artefact);
-          if (client == null) {
-            throw new IOException(
-                "The Artefact "
-                    + artefact.getName()
-                    + " require a non configured client, please check our configuration");
-          }
-          plan.add(new DeleteArtefactAction(client, artefact));
+        addDeleteActions(plan, toBeDeleted);
+      }
+    }
+  }
+
+  void addCreateActions(
+      ExecutionPlan plan,
+      Collection<? extends Artefact> currentArtefacts,
+      List<? extends Artefact> artefacts)
+      throws IOException {
+    for (Artefact artefact : artefacts) {
+      plan.add(
+          new CreateArtefactAction(clientFor(artefact), rootPath(), currentArtefacts, artefact));
+    }
+  }
+
+  void addDeleteActions(ExecutionPlan plan, List<? extends Artefact> artefacts) throws IOException {
+    for (Artefact artefact : artefacts) {
+      plan.add(new DeleteArtefactAction(clientFor(artefact), artefact));
+    }
+  }
+
+  /** @return the artefacts grouped by the client that manages them, in their original order */
+  Map<ArtefactClient, List<Artefact>> groupByClient(List<? extends Artefact> artefacts)
+      throws IOException {
+    Map<ArtefactClient, List<Artefact>> groups = new LinkedHashMap<>();
+    for (Artefact artefact : artefacts) {
+      groups.computeIfAbsent(clientFor(artefact), client -> new ArrayList<>()).add(artefact);
+    }
+    return groups;
+  }
+
+  ArtefactClient clientFor(Artefact artefact) throws IOException {
+    ArtefactClient client = selectClient(artefact);
+    if (client == null) {
+      throw new IOException(
+          "The Artefact "
+              + artefact.getName()
+              + " require a non configured client, please check our configuration");
+    }
+    return client;
+  }
+
+  /**
+   * Run a request against every client, with up to the configured number of clients requested at
+   * the same time. Every client is requested even if others fail, and all the failures are reported
+   * together.
+   *
+   * @param request The request to run for each client
+   * @return the results, in the order of the clients
+   */
+  protected <T> List<T> requestAllClients(ClientRequest<T> request) throws IOException {
+    List<ArtefactClient> clientList = new ArrayList<>(clients.values());
+    if (clientList.isEmpty()) {
+      return new ArrayList<>();
+    }
+    int parallelism =
+        Math.max(1, Math.min(config.getArtefactStateParallelism(), clientList.size()));
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<Future<T>> futures = new ArrayList<>();
+      for (ArtefactClient client : clientList) {
+        futures.add(executor.submit(() -> request.apply(client)));
+      }
+      List<T> results = new ArrayList<>();
+      List<Throwable> errors = new ArrayList<>();
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          results.add(futures.get(i).get());
+        } catch (ExecutionException e) {
+          LOGGER.error("Failed to request the artefacts client " + clientList.get(i).getServer());
+          errors.add(e.getCause());
         }
       }
+      if (!errors.isEmpty()) {
+        IOException exception =
+            new IOException(
+                String.format(
+                    "%d of %d artefact clients failed: %s",
+                    errors.size(),
+                    clientList.size(),
+                    errors.stream().map(Throwable::getMessage).collect(Collectors.joining("; "))),
+                errors.get(0));
+        errors.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
     }
   }
 
+  public void close() {
+    clients.values().forEach(ArtefactClient::close);
+  }
+
   protected ArtefactClient selectClient(Artefact artefact) {
     ArtefactClient defaultClient = clients.containsKey("default") ? clients.get("default") : null;
     return clients.getOrDefault(artefact.getServerLabel(), defaultClient);
   }
 
+  @FunctionalInterface
+  protected interface ClientRequest<T> {
+    T apply(ArtefactClient client) throws IOException;
+  }
+
   abstract Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException;
 
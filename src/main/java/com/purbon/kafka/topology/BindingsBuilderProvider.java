@@ -53,4 +53,6 @@ public interface BindingsBuilderProvider {
   Collection<TopologyAclBinding> buildBindingsForKSqlServer(KsqlServerInstance ksqlServer);
 
   Collection<TopologyAclBinding> buildBindingsForKSqlApp(KSqlApp app, String prefix);
+
+  default void close() {}
 }
@@ -226,6 +226,50 @@ public class Configuration {
     return config.getString(STATE_PROCESSOR_IMPLEMENTATION_CLASS);
   }
 
+  public int getStateJournalCompactionThreshold() {
+    return config.getInt(STATE_JOURNAL_COMPACTION_THRESHOLD);
+  }
+
+  public String getStateCodec() {
+    return config.getString(STATE_CODEC_CONFIG);
+  }
+
+  public String getStateCompression() {
+    return config.getString(STATE_COMPRESSION_CONFIG);
+  }
+
+  public int getMdsLookupParallelism() {
+    return config.getInt(MDS_LOOKUP_PARALLELISM_CONFIG);
+  }
+
+  public int getMdsBindParallelism() {
+    return config.getInt(MDS_BIND_PARALLELISM_CONFIG);
+  }
+
+  public long getHttpConnectTimeoutMs() {
+    return config.getLong(HTTP_CONNECT_TIMEOUT_MS_CONFIG);
+  }
+
+  public long getHttpRequestTimeoutMs() {
+    return config.getLong(HTTP_REQUEST_TIMEOUT_MS_CONFIG);
+  }
+
+  public int getHttpMaxInFlight() {
+    return config.getInt(HTTP_MAX_IN_FLIGHT_CONFIG);
+  }
+
+  public int getHttpRetries() {
+    return config.getInt(HTTP_RETRIES_CONFIG);
+  }
+
+  public long getHttpRetryBackoffMs() {
+    return config.getLong(HTTP_RETRY_BACKOFF_MS_CONFIG);
+  }
+
+  public String getStateCacheDir() {
+    return config.getString(STATE_CACHE_DIR_CONFIG);
+  }
+
   public String getTopicPrefixFormat() {
     return config.getString(TOPIC_PREFIX_FORMAT_CONFIG);
   }
@@ -326,6 +370,58 @@ public class Configuration {
     return fetchStateFromTheCluster() || config.getBoolean(TOPOLOGY_TOPIC_STATE_FROM_CLUSTER);
   }
 
+  public int getTopicStateBatchSize() {
+    return config.getInt(TOPOLOGY_TOPIC_STATE_BATCH_SIZE);
+  }
+
+  public int getTopicStateParallelism() {
+    return config.getInt(TOPOLOGY_TOPIC_STATE_PARALLELISM);
+  }
+
+  public int getKsqlParallelism() {
+    return config.getInt(KSQL_PARALLELISM_CONFIG);
+  }
+
+  public int getTopologyParseParallelism() {
+    return config.getInt(TOPOLOGY_PARSE_PARALLELISM_CONFIG);
+  }
+
+  public int getSchemasParallelism() {
+    return config.getInt(SCHEMAS_PARALLELISM_CONFIG);
+  }
+
+  public boolean isSchemasVerifyRegistered() {
+    return config.getBoolean(SCHEMAS_VERIFY_REGISTERED_CONFIG);
+  }
+
+  public int getSchemasIdentityMapCapacity() {
+    return config.getInt(SCHEMAS_IDENTITY_MAP_CAPACITY_CONFIG);
+  }
+
+  public int getArtefactStateParallelism() {
+    return config.getInt(TOPOLOGY_ARTEFACT_STATE_PARALLELISM);
+  }
+
+  public boolean isTopicActionsBatchEnabled() {
+    return config.getBoolean(TOPIC_ACTIONS_BATCH_ENABLED);
+  }
+
+  public int getTopicActionsBatchSize() {
+    return config.getInt(TOPIC_ACTIONS_BATCH_SIZE);
+  }
+
+  public int getExecutionPlanParallelism() {
+    return config.getInt(EXECUTION_PLAN_PARALLELISM);
+  }
+
+  public int getAclsDeleteBatchSize() {
+    return config.getInt(ACLS_DELETE_BATCH_SIZE);
+  }
+
+  public int getAclsDeleteMaxInFlight() {
+    return config.getInt(ACLS_DELETE_MAX_IN_FLIGHT);
+  }
+
   public String getS3Bucket() {
     return config.getString(JULIE_S3_BUCKET);
   }
@@ -30,12 +30,34 @@ public class Constants {
   public static final String GCP_STATE_PROCESSOR_CLASS =
       "com.purbon.kafka.topology.backend.GCPBackend";
 
+  public static final String JOURNAL_FILE_STATE_PROCESSOR_CLASS =
+      "com.purbon.kafka.topology.backend.JournalFileBackend";
+
+  public static final String STATE_JOURNAL_COMPACTION_THRESHOLD =
+      "topology.builder.state.journal.compaction.threshold";
+
+  public static final String STATE_CODEC_CONFIG = "topology.builder.state.codec";
+  public static final String STATE_COMPRESSION_CONFIG = "topology.builder.state.compression";
+  public static final String STATE_CACHE_DIR_CONFIG = "topology.builder.state.cache.dir";
+
   public static final String REDIS_HOST_CONFIG = "topology.builder.redis.host";
   public static final String REDIS_PORT_CONFIG = "topology.builder.redis.port";
 
   public static final String MDS_SERVER = "topology.builder.mds.server";
   public static final String MDS_USER_CONFIG = "topology.builder.mds.user";
   public static final String MDS_PASSWORD_CONFIG = "topology.builder.mds.password";
+  public static final String MDS_LOOKUP_PARALLELISM_CONFIG =
+      "topology.builder.mds.lookup.parallelism";
+  public static final String MDS_BIND_PARALLELISM_CONFIG = "topology.builder.mds.bind.parallelism";
+
+  public static final String HTTP_CONNECT_TIMEOUT_MS_CONFIG =
+      "topology.builder.http.connect.timeout.ms";
+  public static final String HTTP_REQUEST_TIMEOUT_MS_CONFIG =
+      "topology.builder.http.request.timeout.ms";
+  public static final String HTTP_MAX_IN_FLIGHT_CONFIG = "topology.builder.http.max.in.flight";
+  public static final String HTTP_RETRIES_CONFIG = "topology.builder.http.retries";
+  public static final String HTTP_RETRY_BACKOFF_MS_CONFIG =
+      "topology.builder.http.retry.backoff.ms";
 
   public static final String MDS_KAFKA_CLUSTER_ID_CONFIG = "topology.builder.mds.kafka.cluster.id";
   static final String MDS_SR_CLUSTER_ID_CONFIG = "topology.builder.mds.schema.registry.cluster.id";
@@ -61,6 +83,13 @@ public class Constants {
   static final String ALLOW_DELETE_PRINCIPALS = "allow.delete.principals";
   public static final String ALLOW_DELETE_CONNECT_ARTEFACTS = "allow.delete.artefacts.connect";
   public static final String ALLOW_DELETE_KSQL_ARTEFACTS = "allow.delete.artefacts.ksql";
+  public static final String KSQL_PARALLELISM_CONFIG = "topology.ksql.parallelism";
+  public static final String TOPOLOGY_PARSE_PARALLELISM_CONFIG = "topology.parse.parallelism";
+  public static final String SCHEMAS_PARALLELISM_CONFIG = "topology.schemas.parallelism";
+  public static final String SCHEMAS_IDENTITY_MAP_CAPACITY_CONFIG =
+      "topology.schemas.identity.map.capacity";
+  public static final String SCHEMAS_VERIFY_REGISTERED_CONFIG =
+      "topology.schemas.verify.registered";
 
   public static final String CCLOUD_ENV_CONFIG = "ccloud.environment";
 
@@ -74,6 +103,19 @@ public class Constants {
 
   public static final String TOPOLOGY_STATE_FROM_CLUSTER = "topology.state.cluster.enabled";
 
+  public static final String TOPIC_ACTIONS_BATCH_ENABLED = "topology.topic.actions.batch.enabled";
+  public static final String TOPIC_ACTIONS_BATCH_SIZE = "topology.topic.actions.batch.size";
+
+  public static final String TOPOLOGY_TOPIC_STATE_BATCH_SIZE = "topology.state.topics.batch.size";
+  public static final String TOPOLOGY_TOPIC_STATE_PARALLELISM = "topology.state.topics.parallelism";
+  public static final String TOPOLOGY_ARTEFACT_STATE_PARALLELISM =
+      "topology.state.artefacts.parallelism";
+
+  public static final String EXECUTION_PLAN_PARALLELISM = "topology.execution.parallelism";
+
+  public static final String ACLS_DELETE_BATCH_SIZE = "topology.acls.delete.batch.size";
+  public static final String ACLS_DELETE_MAX_IN_FLIGHT = "topology.acls.delete.max.in.flight";
+
   public static final String SERVICE_ACCOUNT_MANAGED_PREFIXES =
       "topology.service.accounts.managed.prefixes";
 
@@ -1,30 +1,21 @@
 package com.purbon.kafka.topology;
 
 import com.purbon.kafka.topology.actions.*;
-import com.purbon.kafka.topology.actions.access.ClearBindings;
-import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
-import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
-import com.purbon.kafka.topology.actions.topics.DeleteTopics;
-import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.actions.topics.TopicBatchAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
-import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
-import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
-import com.purbon.kafka.topology.utils.StreamUtils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -35,34 +26,28 @@ public class ExecutionPlan {
   private final List<Action> plan;
   private final PrintStream outputStream;
   private final BackendController backendController;
+  private final Configuration config;
 
-  private Set<TopologyAclBinding> bindings;
-  private Set<ServiceAccount> serviceAccounts;
-  private Set<String> topics;
-  private Set<KafkaConnectArtefact> connectors;
-  private Set<KsqlStreamArtefact> ksqlStreams;
-  private Set<KsqlTableArtefact> ksqlTables;
+  private final ExecutionState state;
 
   private ExecutionPlan(
-      List<Action> plan, PrintStream outputStream, BackendController backendController) {
+      List<Action> plan,
+      PrintStream outputStream,
+      BackendController backendController,
+      Configuration config) {
     this.plan = plan;
     this.outputStream = outputStream;
-
-    this.bindings = new HashSet<>();
-    this.serviceAccounts = new HashSet<>();
-    this.topics = new HashSet<>();
-    this.connectors = new HashSet<>();
-    this.ksqlStreams = new HashSet<>();
-    this.ksqlTables = new HashSet<>();
+    this.config = config;
     this.backendController = backendController;
+    this.state = new ExecutionState();
 
     if (backendController.size() > 0) {
-      this.bindings.addAll(backendController.getBindings());
-      this.serviceAccounts.addAll(backendController.getServiceAccounts());
-      this.topics.addAll(backendController.getTopics());
-      this.connectors.addAll(backendController.getConnectors());
-      this.ksqlStreams.addAll(backendController.getKSqlStreams());
-      this.ksqlTables.addAll(backendController.getKSqlTables());
+      state.addBindings(backendController.getBindings());
+      state.addServiceAccounts(backendController.getServiceAccounts());
+      state.addTopics(backendController.getTopics());
+      state.addConnectors(backendController.getConnectors());
+      state.addKSqlStreams(backendController.getKSqlStreams());
+      state.addKSqlTables(backendController.getKSqlTables());
     }
   }
 
@@ -72,9 +57,15 @@ public class ExecutionPlan {
 
   public static ExecutionPlan init(BackendController backendController, PrintStream outputStream)
       throws IOException {
+    return init(backendController, outputStream, new Configuration());
+  }
+
+  public static ExecutionPlan init(
+      BackendController backendController, PrintStream outputStream, Configuration config)
+      throws IOException {
     backendController.load();
     List<Action> listOfActions = Collections.synchronizedList(new LinkedList<>());
-    return new ExecutionPlan(listOfActions, outputStream, backendController);
+    return new ExecutionPlan(listOfActions, outputStream, backendController, config);
   }
 
   public void run() throws IOException {
@@ -82,102 +73,109 @@ public class ExecutionPlan {
   }
 
   public void run(boolean dryRun) throws IOException {
-    for (Action action : plan) {
+    List<Action> actions = config.isTopicActionsBatchEnabled() ? batchTopicActions() : plan;
+    int parallelism = config.getExecutionPlanParallelism();
+    try {
+      if (dryRun || parallelism <= 1) {
+        for (Action action : actions) {
+          executeAndLog(action, dryRun);
+        }
+      } else {
+        new ActionGraphExecutor(parallelism).run(actions, action -> executeAndLog(action, false));
+      }
+    } catch (IOException e) {
+      // keep the changes done before the failure
       try {
-        execute(action, dryRun);
-      } catch (IOException e) {
-        LOGGER.error(String.format("Something happen running action %s", action), e);
-        throw e;
+        saveState();
+      } catch (IOException saveError) {
+        e.addSuppressed(saveError);
       }
+      throw e;
     }
+    saveState();
+  }
 
+  private void saveState() throws IOException {
     backendController.reset();
-    backendController.addBindings(new ArrayList<>(bindings));
-    backendController.addServiceAccounts(serviceAccounts);
-    backendController.addTopics(topics);
-    backendController.addConnectors(connectors);
-    backendController.addKSqlStreams(ksqlStreams);
-    backendController.addKSqlTables(ksqlTables);
+    backendController.addBindings(new ArrayList<>(state.getBindings()));
+    backendController.addServiceAccounts(state.getServiceAccounts());
+    backendController.addTopics(state.getTopics());
+    backendController.addConnectors(state.getConnectors());
+    backendController.addKSqlStreams(state.getKSqlStreams());
+    backendController.addKSqlTables(state.getKSqlTables());
     backendController.flushAndClose();
   }
 
-  private void execute(Action action, boolean dryRun) throws IOException {
-    LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
-    if (dryRun) {
-      outputStream.println(action);
-    } else {
-      action.run();
-      // TODO: a nicer and more clean version of this might be a cool thing to have, current version
-      // is shitty.
-      if (action instanceof CreateTopicAction) {
-        topics.add(((CreateTopicAction) action).getTopic());
-      } else if (action instanceof DeleteTopics) {
-        List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
-        topics =
-            new StreamUtils<>(topics.stream())
-                .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
-      }
-      if (action instanceof BaseAccessControlAction
-          && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
-        if (action instanceof ClearBindings) {
-          bindings =
-              new StreamUtils<>(bindings.stream())
-                  .filterAsSet(
-                      binding ->
-                          !((BaseAccessControlAction) action).getAclBindings().contains(binding));
-        } else {
-          bindings.addAll(((BaseAccessControlAction) action).getAclBindings());
+  /**
+   * Merge all the pending topic create and update actions into a single batch action, placed where
+   * the first of them was in the plan.
+   *
+   * @return List<Action> the plan with the topic actions merged
+   */
+  private List<Action> batchTopicActions() {
+    List<CreateTopicAction> createTopicActions = new ArrayList<>();
+    List<UpdateTopicConfigAction> updateTopicConfigActions = new ArrayList<>();
+    List<Action> actions = new ArrayList<>();
+    int batchPosition = -1;
+
+    for (Action action : plan) {
+      if (action instanceof CreateTopicAction || action instanceof UpdateTopicConfigAction) {
+        if (batchPosition < 0) {
+          batchPosition = actions.size();
         }
-      }
-      if (action instanceof BaseAccountsAction) {
-        if (action instanceof ClearAccounts) {
-          Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
-          serviceAccounts =
-              new StreamUtils<>(serviceAccounts.stream())
-                  .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
+        if (action instanceof CreateTopicAction) {
+          createTopicActions.add((CreateTopicAction) action);
         } else {
-          CreateAccounts createAction = (CreateAccounts) action;
-          serviceAccounts.addAll(createAction.getPrincipals());
+          updateTopicConfigActions.add((UpdateTopicConfigAction) action);
         }
+      } else {
+        actions.add(action);
       }
+    }
 
-      if (action instanceof CreateArtefactAction) {
-        Artefact artefact = ((CreateArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors.add((KafkaConnectArtefact) artefact);
-        } else if (artefact instanceof KsqlStreamArtefact) {
-          ksqlStreams.add((KsqlStreamArtefact) artefact);
-        } else if (artefact instanceof KsqlTableArtefact) {
-          ksqlTables.add((KsqlTableArtefact) artefact);
-        }
-      } else if (action instanceof DeleteArtefactAction) {
-        Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
-        if (toBeDeleted instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlStreamArtefact) {
-          ksqlStreams =
-              new StreamUtils<>(ksqlStreams.stream())
-                  .filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlTableArtefact) {
-          ksqlTables =
-              new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        }
+    if (batchPosition >= 0) {
+      actions.add(
+          batchPosition,
+          new TopicBatchAction(
+              createTopicActions, updateTopicConfigActions, config.getTopicActionsBatchSize()));
+    }
+    return actions;
+  }
+
+  private void executeAndLog(Action action, boolean dryRun) throws IOException {
+    try {
+      execute(action, dryRun);
+    } catch (IOException e) {
+      LOGGER.error(String.format("Something happen running action %s", action), e);
+      throw e;
+    }
+  }
+
+  private void execute(Action action, boolean dryRun) throws IOException {
+    LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
+    if (dryRun) {
+      outputStream.println(action);
+    } else {
+      try {
+        action.run();
+      } catch (PartialFailureException e) {
+        action.applyTo(state);
+        throw e;
       }
+      action.applyTo(state);
     }
   }
 
   public Set<ServiceAccount> getServiceAccounts() {
-    return serviceAccounts;
+    return state.getServiceAccounts();
   }
 
   public Set<TopologyAclBinding> getBindings() {
-    return bindings;
+    return state.getBindings();
   }
 
   public Set<String> getTopics() {
-    return topics;
+    return state.getTopics();
   }
 
   public List<Action> getActions() {
@@ -185,12 +183,10 @@ public class ExecutionPlan {
   }
 
   public Set<KafkaConnectArtefact> getConnectors() {
-    return connectors;
+    return state.getConnectors();
   }
 
   public Set<? extends KsqlArtefact> getKSqlArtefacts() {
-    return Stream.of(ksqlStreams, ksqlTables)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toSet());
+    return state.getKSqlArtefacts();
   }
 }
@@ -0,0 +1,135 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The state tracked while an execution plan runs. Every action applies its own effect through
+ * {@link com.purbon.kafka.topology.actions.Action#applyTo(ExecutionState)}, so each update only
+ * touches the items the action changed. Actions can complete concurrently, so all updates are
+ * synchronized.
+ */
+public class ExecutionState {
+
+  private final Set<TopologyAclBinding> bindings;
+  private final Set<ServiceAccount> serviceAccounts;
+  private final Set<String> topics;
+  private final Set<KafkaConnectArtefact> connectors;
+  private final Set<KsqlStreamArtefact> ksqlStreams;
+  private final Set<KsqlTableArtefact> ksqlTables;
+
+  public ExecutionState() {
+    this.bindings = new HashSet<>();
+    this.serviceAccounts = new HashSet<>();
+    this.topics = new HashSet<>();
+    this.connectors = new HashSet<>();
+    this.ksqlStreams = new HashSet<>();
+    this.ksqlTables = new HashSet<>();
+  }
+
+  public synchronized void addBindings(Collection<TopologyAclBinding> bindings) {
+    this.bindings.addAll(bindings);
+  }
+
+  public synchronized void removeBindings(Collection<TopologyAclBinding> bindings) {
+    removeEach(this.bindings, bindings);
+  }
+
+  public synchronized void addServiceAccounts(Collection<ServiceAccount> serviceAccounts) {
+    this.serviceAccounts.addAll(serviceAccounts);
+  }
+
+  public synchronized void removeServiceAccounts(Collection<ServiceAccount> serviceAccounts) {
+    removeEach(this.serviceAccounts, serviceAccounts);
+  }
+
+  public synchronized void addTopics(Collection<String> topics) {
+    this.topics.addAll(topics);
+  }
+
+  public synchronized void removeTopics(Collection<String> topics) {
+    removeEach(this.topics, topics);
+  }
+
+  public synchronized void addConnectors(Collection<KafkaConnectArtefact> connectors) {
+    this.connectors.addAll(connectors);
+  }
+
+  public synchronized void addKSqlStreams(Collection<KsqlStreamArtefact> ksqlStreams) {
+    this.ksqlStreams.addAll(ksqlStreams);
+  }
+
+  public synchronized void addKSqlTables(Collection<KsqlTableArtefact> ksqlTables) {
+    this.ksqlTables.addAll(ksqlTables);
+  }
+
+  public synchronized void addArtefact(Artefact artefact) {
+    if (artefact instanceof KafkaConnectArtefact) {
+      connectors.add((KafkaConnectArtefact) artefact);
+    } else if (artefact instanceof KsqlStreamArtefact) {
+      ksqlStreams.add((KsqlStreamArtefact) artefact);
+    } else if (artefact instanceof KsqlTableArtefact) {
+      ksqlTables.add((KsqlTableArtefact) artefact);
+    }
+  }
+
+  public synchronized void removeArtefact(Artefact artefact) {
+    if (artefact instanceof KafkaConnectArtefact) {
+      connectors.remove(artefact);
+    } else if (artefact instanceof KsqlStreamArtefact) {
+      ksqlStreams.remove(artefact);
+    } else if (artefact instanceof KsqlTableArtefact) {
+      ksqlTables.remove(artefact);
+    }
+  }
+
+  public Set<TopologyAclBinding> getBindings() {
+    return bindings;
+  }
+
+  public Set<ServiceAccount> getServiceAccounts() {
+    return serviceAccounts;
+  }
+
+  public Set<String> getTopics() {
+    return topics;
+  }
+
+  public Set<KafkaConnectArtefact> getConnectors() {
+    return connectors;
+  }
+
+  public Set<KsqlStreamArtefact> getKSqlStreams() {
+    return ksqlStreams;
+  }
+
+  public Set<KsqlTableArtefact> getKSqlTables() {
+    return ksqlTables;
+  }
+
+  public Set<? extends KsqlArtefact> getKSqlArtefacts() {
+    return Stream.of(ksqlStreams, ksqlTables)
+        .flatMap(Collection::stream)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Remove the items one by one. Set.removeAll iterates over the whole set whenever the set is not
+   * larger than the argument, calling contains on the argument, which is linear for lists.
+   */
+  private static <T> void removeEach(Set<T> set, Collection<T> items) {
+    for (T item : items) {
+      set.remove(item);
+    }
+  }
+}
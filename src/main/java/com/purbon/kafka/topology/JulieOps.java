@@ -4,12 +4,15 @@ import static com.purbon.kafka.topology.Constants.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClientBuilder;
+import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.api.connect.KConnectApiClient;
 import com.purbon.kafka.topology.api.ksql.KsqlApiClient;
 import com.purbon.kafka.topology.api.mds.MDSApiClientBuilder;
 import com.purbon.kafka.topology.backend.*;
 import com.purbon.kafka.topology.exceptions.ValidationException;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.schemas.SchemaFingerprintIndex;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
 import com.purbon.kafka.topology.utils.Pair;
@@ -75,11 +78,13 @@ public class JulieOps implements AutoCloseable {
     Configuration builderConfig = Configuration.build(config);
     TopologyBuilderAdminClient adminClient =
         new TopologyBuilderAdminClientBuilder(builderConfig).build();
+    ServiceAccountCache serviceAccounts = new ServiceAccountCache(new CCloudCLI());
     AccessControlProviderFactory factory =
         new AccessControlProviderFactory(
-            builderConfig, adminClient, new MDSApiClientBuilder(builderConfig));
+            builderConfig, adminClient, new MDSApiClientBuilder(builderConfig), serviceAccounts);
 
-    PrincipalProviderFactory principalProviderFactory = new PrincipalProviderFactory(builderConfig);
+    PrincipalProviderFactory principalProviderFactory =
+        new PrincipalProviderFactory(builderConfig, serviceAccounts);
 
     JulieOps builder =
         build(
@@ -148,12 +153,16 @@ public class JulieOps implements AutoCloseable {
     SchemaRegistryClient schemaRegistryClient =
         new CachedSchemaRegistryClient(
             restService,
-            10,
+            config.getSchemasIdentityMapCapacity(),
             providers,
             schemaRegistryConfig.isEmpty() ? null : schemaRegistryConfig,
             null);
     SchemaRegistryManager schemaRegistryManager =
-        new SchemaRegistryManager(schemaRegistryClient, topologyFileOrDir);
+        new SchemaRegistryManager(
+            schemaRegistryClient,
+            topologyFileOrDir,
+            new SchemaFingerprintIndex(
+                StateCache.from(config), config.getConfluentSchemaRegistryUrl()));
 
     TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
 
@@ -183,7 +192,9 @@ public class JulieOps implements AutoCloseable {
       Configuration config, String topologyFileOrDir) {
     Map<String, KConnectApiClient> clients =
         config.getKafkaConnectServers().entrySet().stream()
-            .map(entry -> new Pair<>(entry.getKey(), new KConnectApiClient(entry.getValue())))
+            .map(
+                entry ->
+                    new Pair<>(entry.getKey(), new KConnectApiClient(entry.getValue(), config)))
             .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
 
     if (clients.isEmpty()) {
@@ -227,7 +238,7 @@ public class JulieOps implements AutoCloseable {
   }
 
   void run(BackendController backendController, PrintStream printStream) throws IOException {
-    ExecutionPlan plan = ExecutionPlan.init(backendController, printStream);
+    ExecutionPlan plan = ExecutionPlan.init(backendController, printStream, config);
     LOGGER.debug(
         String.format(
             "Running topology builder with topicManager=[%s], accessControlManager=[%s], dryRun=[%s], isQuiet=[%s]",
@@ -240,7 +251,18 @@ public class JulieOps implements AutoCloseable {
     kSqlArtefactManager.updatePlan(plan, topology);
     principalDeleteManager.updatePlan(plan, topology); // Must be last
 
-    plan.run(config.isDryRun());
+    try {
+      plan.run(config.isDryRun());
+    } catch (IOException e) {
+      // keep the subjects registered before the failure, so they are not registered again
+      try {
+        topicManager.saveSchemaFingerprints();
+      } catch (IOException saveError) {
+        e.addSuppressed(saveError);
+      }
+      throw e;
+    }
+    topicManager.saveSchemaFingerprints();
 
     if (!config.isQuiet() && !config.isDryRun()) {
       topicManager.printCurrentState(System.out);
@@ -261,6 +283,9 @@ public class JulieOps implements AutoCloseable {
 
   public void close() {
     topicManager.close();
+    accessControlManager.close();
+    connectorManager.close();
+    kSqlArtefactManager.close();
   }
 
   public static String getVersion() {
@@ -284,6 +309,8 @@ public class JulieOps implements AutoCloseable {
     try {
       if (backendClass.equalsIgnoreCase(STATE_PROCESSOR_DEFAULT_CLASS)) {
         backend = new FileBackend();
+      } else if (backendClass.equalsIgnoreCase(JOURNAL_FILE_STATE_PROCESSOR_CLASS)) {
+        backend = new JournalFileBackend();
       } else if (backendClass.equalsIgnoreCase(REDIS_STATE_PROCESSOR_CLASS)) {
         String host = config.getProperty(REDIS_HOST_CONFIG);
         int port = Integer.parseInt(config.getProperty(REDIS_PORT_CONFIG));
@@ -1,5 +1,11 @@
 package com.purbon.kafka.topology;
 
+import static com.purbon.kafka.topology.utils.Utils.filePath;
+
+import com.purbon.kafka.topology.actions.CreateArtefactBatchAction;
+import com.purbon.kafka.topology.actions.DeleteArtefactBatchAction;
+import com.purbon.kafka.topology.api.ksql.KsqlApiClient;
+import com.purbon.kafka.topology.api.ksql.KsqlDependencyGraph;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.Project;
@@ -7,13 +13,15 @@ import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KsqlArtefacts;
 import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
-import com.purbon.kafka.topology.utils.Either;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +48,80 @@ public class KSqlArtefactManager extends ArtefactManager {
     super(clients, config, topologyFileOrDir);
   }
 
+  /**
+   * New streams and tables are created in batches of artefacts that depend on each other, each
+   * batch in dependency order. Independent batches are created at the same time.
+   */
+  @Override
+  void addCreateActions(
+      ExecutionPlan plan,
+      Collection<? extends Artefact> currentArtefacts,
+      List<? extends Artefact> artefacts)
+      throws IOException {
+    for (Map.Entry<ArtefactClient, List<Artefact>> entry : groupByClient(artefacts).entrySet()) {
+      KsqlDependencyGraph graph = new KsqlDependencyGraph(statements(entry.getValue(), true));
+      plan.add(
+          new CreateArtefactBatchAction(
+              entry.getKey(), rootPath(), graph.createBatches(), config.getKsqlParallelism()));
+    }
+  }
+
+  /**
+   * Streams and tables are dropped before the ones they read from. The files of removed artefacts
+   * are often removed too, and the artefacts read from the cluster have none, so when there is no
+   * file the statements kept by the server are used instead.
+   */
+  @Override
+  void addDeleteActions(ExecutionPlan plan, List<? extends Artefact> artefacts) throws IOException {
+    for (Map.Entry<ArtefactClient, List<Artefact>> entry : groupByClient(artefacts).entrySet()) {
+      Map<Artefact, String> statements = statements(entry.getValue(), false);
+      statements.replaceAll(
+          (artefact, sql) -> sql != null ? sql : serverStatements(entry.getKey(), artefact));
+      KsqlDependencyGraph graph = new KsqlDependencyGraph(statements);
+      plan.add(new DeleteArtefactBatchAction(entry.getKey(), graph.dropOrder()));
+    }
+  }
+
+  /**
+   * @param artefacts The artefacts
+   * @param required If the file of every artefact must exist, artefacts read from the cluster have
+   *     no file
+   * @return the statement in the file of each artefact, or null if it has none
+   */
+  private Map<Artefact, String> statements(List<Artefact> artefacts, boolean required)
+      throws IOException {
+    Map<Artefact, String> statements = new LinkedHashMap<>();
+    for (Artefact artefact : artefacts) {
+      String sql = null;
+      String path = artefact.getPath();
+      if (path != null && !path.isEmpty()) {
+        Path file = filePath(path, rootPath());
+        if (required || Files.exists(file)) {
+          sql = Utils.readFullFile(file);
+        }
+      }
+      statements.put(artefact, sql);
+    }
+    return statements;
+  }
+
+  /** @return the statements of the artefact kept by the server, or null if they are unknown */
+  private String serverStatements(ArtefactClient client, Artefact artefact) {
+    if (!(client instanceof KsqlApiClient)) {
+      return null;
+    }
+    try {
+      return ((KsqlApiClient) client).sourceStatements(artefact.getName());
+    } catch (IOException e) {
+      LOGGER.warn(
+          "Could not describe the KSQL artefact "
+              + artefact.getName()
+              + ", it is dropped without its dependencies",
+          e);
+      return null;
+    }
+  }
+
   @Override
   Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
@@ -47,40 +129,11 @@ public class KSqlArtefactManager extends ArtefactManager {
   }
 
   private Collection<? extends Artefact> getClustersState() throws IOException {
-    List<Either> list =
-        clients.values().stream()
-            .map(
-                client -> {
-                  try {
-                    Collection<? extends Artefact> artefacts = client.getClusterState();
-                    if (artefacts.isEmpty()) {
-                      return Either.Right(null);
-                    }
-                    return Either.Right(artefacts);
-                  } catch (IOException ex) {
-                    return Either.Left(ex);
-                  }
-                })
-            .collect(Collectors.toList());
-
-    List<IOException> errors =
-        list.stream()
-            .filter(Either::isLeft)
-            .map(e -> (IOException) e.getLeft().get())
-            .collect(Collectors.toList());
-    if (errors.size() > 0) {
-      throw new IOException(errors.get(0));
-    }
+    List<Collection<? extends Artefact>> clusters =
+        requestAllClients(ArtefactClient::getClusterState);
 
-    return list.stream()
-        .filter(Either::isRight)
-        .flatMap(
-            (Function<Either, Stream<? extends Artefact>>)
-                either -> {
-                  Collection<? extends Artefact> artefacts =
-                      (Collection<? extends Artefact>) either.getRight().get();
-                  return artefacts.stream();
-                })
+    return clusters.stream()
+        .flatMap(Collection::stream)
         .map(
             artefact -> {
               if (artefact instanceof KsqlStreamArtefact) {
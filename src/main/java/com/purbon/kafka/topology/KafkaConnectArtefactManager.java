@@ -1,23 +1,29 @@
 package com.purbon.kafka.topology;
 
+import static com.purbon.kafka.topology.utils.Utils.filePath;
+
+import com.purbon.kafka.topology.actions.UpdateArtefactAction;
+import com.purbon.kafka.topology.api.connect.ConnectorConfigIndex;
+import com.purbon.kafka.topology.api.connect.ConnectorInfo;
 import com.purbon.kafka.topology.api.connect.KConnectApiClient;
+import com.purbon.kafka.topology.backend.StateCache;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
-import com.purbon.kafka.topology.utils.Either;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class KafkaConnectArtefactManager extends ArtefactManager {
 
+  private Map<KafkaConnectArtefact, ConnectorInfo> clustersState;
+  private boolean planChangesConnectors;
+
   public KafkaConnectArtefactManager(
       ArtefactClient client, Configuration config, String topologyFileOrDir) {
     super(client, config, topologyFileOrDir);
@@ -28,54 +34,76 @@ public class KafkaConnectArtefactManager extends ArtefactManager {
     super(clients, config, topologyFileOrDir);
   }
 
+  @Override
+  public void updatePlan(ExecutionPlan plan, Topology topology) throws IOException {
+    int actions = plan.getActions().size();
+    super.updatePlan(plan, topology);
+    if (config.fetchStateFromTheCluster()) {
+      planConfigUpdates(plan, topology);
+    }
+    planChangesConnectors = plan.getActions().size() > actions;
+  }
+
+  /**
+   * Update the connectors whose config in the local file differs from the config running in the
+   * cluster. Unchanged connectors are neither read again nor sent to the cluster.
+   */
+  private void planConfigUpdates(ExecutionPlan plan, Topology topology) throws IOException {
+    Map<KafkaConnectArtefact, ConnectorInfo> state = getClustersState();
+    ConnectorConfigIndex index = new ConnectorConfigIndex(StateCache.from(config));
+    for (KafkaConnectArtefact artefact : parseNewArtefacts(topology)) {
+      ConnectorInfo info = state.get(artefact);
+      if (info == null || info.getConfig().isEmpty()) {
+        continue;
+      }
+      String localHash = index.configHash(filePath(artefact.getPath(), rootPath()));
+      if (!localHash.equals(ConnectorConfigIndex.configHash(info.getConfig()))) {
+        plan.add(new UpdateArtefactAction(clientFor(artefact), rootPath(), artefact));
+      }
+    }
+    index.save();
+  }
+
   @Override
   Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
-    return config.fetchStateFromTheCluster() ? getClustersState() : plan.getConnectors();
+    return config.fetchStateFromTheCluster() ? getClustersState().keySet() : plan.getConnectors();
   }
 
-  private Collection<? extends Artefact> getClustersState() throws IOException {
-    List<Either> list =
-        clients.values().stream()
-            .map(
-                client -> {
-                  try {
-                    Collection<? extends Artefact> artefacts = client.getClusterState();
-                    if (artefacts.isEmpty()) {
-                      return Either.Right(null);
-                    }
-                    return Either.Right(artefacts);
-                  } catch (IOException ex) {
-                    return Either.Left(ex);
-                  }
-                })
-            .collect(Collectors.toList());
-
-    List<IOException> errors =
-        list.stream()
-            .filter(Either::isLeft)
-            .map(e -> (IOException) e.getLeft().get())
-            .collect(Collectors.toList());
-    if (errors.size() > 0) {
-      throw new IOException(errors.get(0));
+  /**
+   * The connectors of all the clusters, fetched concurrently with one request per cluster. The
+   * snapshot is kept for later uses within the same run, unless the plan changes the connectors.
+   */
+  private Map<KafkaConnectArtefact, ConnectorInfo> getClustersState() throws IOException {
+    if (clustersState != null && !planChangesConnectors) {
+      return clustersState;
     }
+    List<Map<KafkaConnectArtefact, ConnectorInfo>> clusters =
+        requestAllClients(this::getClusterState);
+    Map<KafkaConnectArtefact, ConnectorInfo> state = new LinkedHashMap<>();
+    clusters.forEach(state::putAll);
+    clustersState = state;
+    planChangesConnectors = false;
+    return clustersState;
+  }
 
-    return list.stream()
-        .filter(Either::isRight)
-        .flatMap(
-            (Function<Either, Stream<? extends Artefact>>)
-                either -> {
-                  Collection<? extends Artefact> artefacts =
-                      (Collection<? extends Artefact>) either.getRight().get();
-                  return artefacts.stream();
-                })
-        .map(
-            artefact ->
-                new KafkaConnectArtefact(
-                    artefact.getPath(),
-                    reverseLookup(artefact.getServerLabel()),
-                    artefact.getName()))
-        .collect(Collectors.toSet());
+  private Map<KafkaConnectArtefact, ConnectorInfo> getClusterState(ArtefactClient client)
+      throws IOException {
+    Map<KafkaConnectArtefact, ConnectorInfo> state = new LinkedHashMap<>();
+    if (client instanceof KConnectApiClient) {
+      String label = reverseLookup(client.getServer());
+      for (ConnectorInfo info : ((KConnectApiClient) client).describe()) {
+        state.put(new KafkaConnectArtefact("", label, info.getName()), info);
+      }
+    } else {
+      for (Artefact artefact : client.getClusterState()) {
+        String label = reverseLookup(artefact.getServerLabel());
+        state.put(
+            new KafkaConnectArtefact(artefact.getPath(), label, artefact.getName()),
+            new ConnectorInfo(artefact.getName()));
+      }
+    }
+    return state;
   }
 
   private String reverseLookup(String host) {
@@ -108,6 +136,7 @@ public class KafkaConnectArtefactManager extends ArtefactManager {
   @Override
   public void printCurrentState(PrintStream out) throws IOException {
     out.println("List of Connectors:");
-    getClustersState().forEach(out::println);
+    getClustersState()
+        .forEach((artefact, info) -> out.println(artefact.getServerLabel() + ": " + info));
   }
 }
@@ -1,19 +1,27 @@
 package com.purbon.kafka.topology;
 
+import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.serviceAccounts.CCloudPrincipalProvider;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
 
 public class PrincipalProviderFactory {
 
   private Configuration config;
+  private ServiceAccountCache serviceAccounts;
 
   public PrincipalProviderFactory(Configuration config) {
+    this(config, new ServiceAccountCache(new CCloudCLI()));
+  }
+
+  public PrincipalProviderFactory(Configuration config, ServiceAccountCache serviceAccounts) {
     this.config = config;
+    this.serviceAccounts = serviceAccounts;
   }
 
   public PrincipalProvider get() {
     if (config.useConfluentCloud()) {
-      return new CCloudPrincipalProvider(config);
+      return new CCloudPrincipalProvider(config, serviceAccounts);
     } else {
       return new VoidPrincipalProvider();
     }
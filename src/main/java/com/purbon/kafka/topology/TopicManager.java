@@ -4,13 +4,16 @@ import com.purbon.kafka.topology.actions.Action;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
 import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaBatchAction;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
 import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
 import com.purbon.kafka.topology.actions.topics.builders.TopicConfigUpdatePlanBuilder;
+import com.purbon.kafka.topology.api.adminclient.ClusterTopicSnapshot;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -33,8 +36,8 @@ public class TopicManager implements ExecutionPlanUpdater {
   private final SchemaRegistryManager schemaRegistryManager;
   private final TopologyBuilderAdminClient adminClient;
   private final Configuration config;
-  private final List<String> internalTopicPrefixes;
-  private final List<String> managedPrefixes;
+  private final PrefixMatcher internalTopicPrefixes;
+  private final PrefixMatcher managedPrefixes;
 
   public TopicManager(
       TopologyBuilderAdminClient adminClient, SchemaRegistryManager schemaRegistryManager) {
@@ -48,8 +51,8 @@ public class TopicManager implements ExecutionPlanUpdater {
     this.adminClient = adminClient;
     this.schemaRegistryManager = schemaRegistryManager;
     this.config = config;
-    this.internalTopicPrefixes = config.getKafkaInternalTopicPrefixes();
-    this.managedPrefixes = config.getTopicManagedPrefixes();
+    this.internalTopicPrefixes = new PrefixMatcher(config.getKafkaInternalTopicPrefixes());
+    this.managedPrefixes = new PrefixMatcher(config.getTopicManagedPrefixes());
   }
 
   @Override
@@ -61,12 +64,14 @@ public class TopicManager implements ExecutionPlanUpdater {
 
     Map<String, Topic> topics = parseMapOfTopics(topology);
 
+    TopicConfigUpdatePlanBuilder builder =
+        new TopicConfigUpdatePlanBuilder(loadClusterTopicSnapshot(topics.keySet(), currentTopics));
+
     Set<Action> createTopicActions = new HashSet<>();
     Set<Action> updateTopicConfigActions = new HashSet<>();
     topics.forEach(
         (topicName, topic) -> {
           if (currentTopics.contains(topicName)) {
-            TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient);
             TopicConfigUpdatePlan topicConfigUpdatePlan =
                 builder.createTopicConfigUpdatePlan(topic, topicName);
             if (topicConfigUpdatePlan.hasConfigChanges()) {
@@ -81,10 +86,21 @@ public class TopicManager implements ExecutionPlanUpdater {
     createTopicActions.forEach(plan::add); // Do createActions before update actions
     updateTopicConfigActions.forEach(plan::add);
 
+    List<RegisterSchemaAction> registerSchemaActions = new ArrayList<>();
     topics.forEach(
         (topicName, topic) -> {
-          plan.add(new RegisterSchemaAction(schemaRegistryManager, topic, topicName));
+          RegisterSchemaAction action =
+              new RegisterSchemaAction(
+                  schemaRegistryManager, topic, topicName, config.isSchemasVerifyRegistered());
+          // the registry is only asked when the action runs, not while planning
+          if (config.isSchemasVerifyRegistered() || !action.isUpToDate()) {
+            registerSchemaActions.add(action);
+          }
         });
+    if (!registerSchemaActions.isEmpty()) {
+      plan.add(
+          new RegisterSchemaBatchAction(registerSchemaActions, config.getSchemasParallelism()));
+    }
 
     if (config.isAllowDeleteTopics()) {
       // Handle topic delete: Topics in the initial list, but not present anymore after a
@@ -108,8 +124,19 @@ public class TopicManager implements ExecutionPlanUpdater {
         .collect(Collectors.toMap(Topic::toString, topic -> topic));
   }
 
+  private ClusterTopicSnapshot loadClusterTopicSnapshot(
+      Set<String> topics, Set<String> currentTopics) throws IOException {
+    List<String> existingTopics =
+        topics.stream().filter(currentTopics::contains).collect(Collectors.toList());
+    return ClusterTopicSnapshot.load(
+        adminClient,
+        existingTopics,
+        config.getTopicStateBatchSize(),
+        config.getTopicStateParallelism());
+  }
+
   private boolean isAnInternalTopics(String topic) {
-    return internalTopicPrefixes.stream().anyMatch(topic::startsWith);
+    return internalTopicPrefixes.matches(topic);
   }
 
   private Set<String> loadActualClusterStateIfAvailable(ExecutionPlan plan) throws IOException {
@@ -132,9 +159,8 @@ public class TopicManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String topic) {
-    boolean matches =
-        managedPrefixes.size() == 0 || managedPrefixes.stream().anyMatch(topic::startsWith);
-    LOGGER.debug(String.format("Topic %s matches %s with $s", topic, matches, managedPrefixes));
+    boolean matches = managedPrefixes.isEmpty() || managedPrefixes.matches(topic);
+    LOGGER.debug("Topic {} matches {} with {}", topic, matches, managedPrefixes);
     return matches;
   }
 
@@ -144,6 +170,10 @@ public class TopicManager implements ExecutionPlanUpdater {
     adminClient.listTopics().forEach(os::println);
   }
 
+  public void saveSchemaFingerprints() throws IOException {
+    schemaRegistryManager.saveFingerprints();
+  }
+
   public void close() {
     adminClient.close();
   }
@@ -1,15 +1,26 @@
 package com.purbon.kafka.topology;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.purbon.kafka.topology.backend.StateCache;
+import com.purbon.kafka.topology.exceptions.TopologyParsingException;
 import com.purbon.kafka.topology.model.PlanMap;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.serdes.PlanMapSerdes;
 import com.purbon.kafka.topology.serdes.TopologySerdes;
+import com.purbon.kafka.topology.serdes.TopologyTreeCache;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TopologyObjectBuilder {
 
@@ -49,19 +60,95 @@ public class TopologyObjectBuilder {
 
   private static List<Topology> parseListOfTopologies(
       String fileOrDir, Configuration config, PlanMap plans) throws IOException {
-    TopologySerdes parser = new TopologySerdes(config, plans);
     List<Topology> topologies = new ArrayList<>();
+    TopologyTreeCache trees =
+        new TopologyTreeCache(
+            StateCache.from(config), Paths.get(fileOrDir), config.getTopologyFileType());
     boolean isDir = Files.isDirectory(Paths.get(fileOrDir));
     if (isDir) {
-      Files.list(Paths.get(fileOrDir))
-          .sorted()
-          .filter(p -> !Files.isDirectory(p))
-          .map(path -> parser.deserialise(path.toFile()))
-          .forEach(subTopology -> topologies.add(subTopology));
+      List<Path> paths;
+      try (Stream<Path> files = Files.list(Paths.get(fileOrDir))) {
+        paths = files.sorted().filter(p -> !Files.isDirectory(p)).collect(Collectors.toList());
+      }
+      topologies.addAll(parseAll(paths, config, plans, trees));
     } else {
-      Topology firstTopology = parser.deserialise(new File(fileOrDir));
+      TopologySerdes parser = new TopologySerdes(config, plans);
+      Topology firstTopology = parse(Paths.get(fileOrDir), parser, trees);
       topologies.add(firstTopology);
     }
+    trees.save();
     return topologies;
   }
+
+  /** Parse the file, or only build the topology if its tree was cached by a previous run. */
+  private static Topology parse(Path path, TopologySerdes parser, TopologyTreeCache trees) {
+    if (!trees.isEnabled()) {
+      return parser.deserialise(path.toFile());
+    }
+    byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (IOException e) {
+      throw new TopologyParsingException("Failed to deserialize topology from " + path, e);
+    }
+    String hash = StateCache.hash(content);
+    JsonNode tree = trees.get(path, hash);
+    if (tree == null) {
+      tree = parser.readTree(content, path.toString());
+      trees.put(path, hash, tree);
+    }
+    return parser.deserialise(tree, path.toString());
+  }
+
+  /**
+   * Parse the files at the same time, with one parser per thread. The topologies are returned in
+   * the order of the files, and every file is parsed even if others fail.
+   */
+  private static List<Topology> parseAll(
+      List<Path> paths, Configuration config, PlanMap plans, TopologyTreeCache trees) {
+    if (paths.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Topology[] topologies = new Topology[paths.size()];
+    RuntimeException[] errors = new RuntimeException[paths.size()];
+    ThreadLocal<TopologySerdes> parsers =
+        ThreadLocal.withInitial(() -> new TopologySerdes(config, plans));
+
+    int parallelism = Math.max(1, Math.min(config.getTopologyParseParallelism(), paths.size()));
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<ForkJoinTask<?>> tasks = new ArrayList<>();
+      for (int i = 0; i < paths.size(); i++) {
+        int index = i;
+        tasks.add(
+            pool.submit(
+                () -> {
+                  try {
+                    topologies[index] = parse(paths.get(index), parsers.get(), trees);
+                  } catch (RuntimeException e) {
+                    errors[index] = e;
+                  }
+                }));
+      }
+      tasks.forEach(ForkJoinTask::join);
+    } finally {
+      pool.shutdown();
+    }
+
+    List<RuntimeException> failures =
+        Arrays.stream(errors).filter(Objects::nonNull).collect(Collectors.toList());
+    if (failures.size() == 1) {
+      throw failures.get(0);
+    } else if (failures.size() > 1) {
+      String message =
+          failures.stream().map(Throwable::getMessage).collect(Collectors.joining("\n"));
+      TopologyParsingException exception =
+          new TopologyParsingException(
+              String.format("Failed to parse %d topology files:%n%s", failures.size(), message),
+              failures.get(0));
+      failures.subList(1, failures.size()).forEach(exception::addSuppressed);
+      throw exception;
+    }
+    return Arrays.asList(topologies);
+  }
 }
@@ -1,8 +1,17 @@
 package com.purbon.kafka.topology.actions;
 
+import com.purbon.kafka.topology.ExecutionState;
 import java.io.IOException;
 
 public interface Action {
 
   void run() throws IOException;
+
+  /**
+   * Apply the effect of this action to the state tracked by the execution plan, called once the
+   * action has run successfully.
+   *
+   * @param state the state of the execution plan
+   */
+  default void applyTo(ExecutionState state) {}
 }
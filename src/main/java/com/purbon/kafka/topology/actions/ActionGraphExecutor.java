@@ -0,0 +1,205 @@
+package com.purbon.kafka.topology.actions;
+
+import com.purbon.kafka.topology.actions.access.ClearBindings;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaBatchAction;
+import com.purbon.kafka.topology.actions.topics.TopicBatchAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the actions of a plan on a bounded worker pool. The dependencies between the actions are
+ * derived from their type, so an action only starts once the earlier actions it depends on are
+ * done:
+ *
+ * <ul>
+ *   <li>actions on the same topic, the same artefact client or the same access control provider
+ *       keep their plan order
+ *   <li>schemas wait for their topic to be created or updated
+ *   <li>bindings wait for all earlier topics and principals to be created
+ *   <li>artefacts wait for all earlier topics to be created
+ *   <li>deletion of topics and principals, and any unknown action, wait for everything before them
+ *       and block everything after them
+ * </ul>
+ *
+ * After the first failure no new action is started, the running ones are allowed to complete.
+ */
+public class ActionGraphExecutor {
+
+  private static final Logger LOGGER = LogManager.getLogger(ActionGraphExecutor.class);
+
+  private static final String TOPICS = "topics";
+  private static final String ACCOUNTS = "accounts";
+
+  public interface ActionHandler {
+    void execute(Action action) throws IOException;
+  }
+
+  private final int parallelism;
+
+  public ActionGraphExecutor(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public void run(List<Action> actions, ActionHandler handler) throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Map<String, CompletableFuture<Void>> lanes = new HashMap<>();
+    Map<String, List<CompletableFuture<Void>>> providers = new HashMap<>();
+    Map<String, CompletableFuture<Void>> joins = new HashMap<>();
+    List<CompletableFuture<Void>> sinceBarrier = new ArrayList<>();
+    CompletableFuture<Void> barrier = CompletableFuture.completedFuture(null);
+
+    try {
+      for (Action action : actions) {
+        Scope scope = scope(action);
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        dependencies.add(barrier);
+        if (scope.isBarrier) {
+          dependencies.addAll(sinceBarrier);
+        }
+        for (String lane : scope.lanes) {
+          dependencies.add(lanes.getOrDefault(lane, barrier));
+        }
+        for (String key : scope.needs) {
+          dependencies.add(
+              joins.computeIfAbsent(
+                  key,
+                  k ->
+                      CompletableFuture.allOf(
+                          providers
+                              .getOrDefault(k, Collections.emptyList())
+                              .toArray(new CompletableFuture[0]))));
+        }
+
+        CompletableFuture<Void> future =
+            CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> execute(action, handler, failure), executor);
+
+        if (scope.isBarrier) {
+          barrier = future;
+          sinceBarrier.clear();
+          lanes.clear();
+          providers.clear();
+          joins.clear();
+        } else {
+          sinceBarrier.add(future);
+          scope.lanes.forEach(lane -> lanes.put(lane, future));
+          for (String key : scope.provides) {
+            providers.computeIfAbsent(key, k -> new ArrayList<>()).add(future);
+            joins.remove(key);
+          }
+        }
+      }
+      sinceBarrier.add(barrier);
+      CompletableFuture.allOf(sinceBarrier.toArray(new CompletableFuture[0])).get();
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Throwable error = failure.get();
+    if (error instanceof IOException) {
+      throw (IOException) error;
+    } else if (error != null) {
+      throw new IOException(error);
+    }
+  }
+
+  private void execute(Action action, ActionHandler handler, AtomicReference<Throwable> failure) {
+    if (failure.get() != null) {
+      LOGGER.debug(String.format("Skipping action %s after a previous failure", action));
+      return;
+    }
+    try {
+      handler.execute(action);
+    } catch (Exception e) {
+      failure.compareAndSet(null, e);
+    }
+  }
+
+  private static Scope scope(Action action) {
+    Scope scope = new Scope();
+    if (action instanceof CreateTopicAction) {
+      scope.topics(Collections.singleton(((CreateTopicAction) action).getTopic()));
+    } else if (action instanceof UpdateTopicConfigAction) {
+      scope.topics(
+          Collections.singleton(
+              ((UpdateTopicConfigAction) action).getTopicConfigUpdatePlan().getFullTopicName()));
+    } else if (action instanceof TopicBatchAction) {
+      scope.topics(((TopicBatchAction) action).getTopics());
+    } else if (action instanceof RegisterSchemaAction) {
+      String topic = ((RegisterSchemaAction) action).getTopic();
+      scope.lanes.add("schema:" + topic);
+      scope.needs.add("topic:" + topic);
+    } else if (action instanceof RegisterSchemaBatchAction) {
+      for (String topic : ((RegisterSchemaBatchAction) action).getTopics()) {
+        scope.lanes.add("schema:" + topic);
+        scope.needs.add("topic:" + topic);
+      }
+    } else if (action instanceof CreateAccounts) {
+      scope.lanes.add(ACCOUNTS);
+      scope.provides.add(ACCOUNTS);
+    } else if (action instanceof CreateBindings || action instanceof ClearBindings) {
+      scope.lanes.add("bindings");
+      scope.needs.add(TOPICS);
+      scope.needs.add(ACCOUNTS);
+    } else if (action instanceof CreateArtefactAction) {
+      scope.artefacts(((CreateArtefactAction) action).getClient());
+    } else if (action instanceof CreateArtefactBatchAction) {
+      scope.artefacts(((CreateArtefactBatchAction) action).getClient());
+    } else if (action instanceof DeleteArtefactBatchAction) {
+      scope.artefacts(((DeleteArtefactBatchAction) action).getClient());
+    } else if (action instanceof UpdateArtefactAction) {
+      scope.artefacts(((UpdateArtefactAction) action).getClient());
+    } else if (action instanceof DeleteArtefactAction) {
+      scope.artefacts(((DeleteArtefactAction) action).getClient());
+    } else {
+      scope.isBarrier = true;
+    }
+    return scope;
+  }
+
+  private static class Scope {
+    private final Set<String> lanes = new HashSet<>();
+    private final Set<String> needs = new HashSet<>();
+    private final Set<String> provides = new HashSet<>();
+    private boolean isBarrier = false;
+
+    private void topics(Collection<String> topics) {
+      for (String topic : topics) {
+        lanes.add("topic:" + topic);
+        provides.add("topic:" + topic);
+      }
+      provides.add(TOPICS);
+    }
+
+    private void artefacts(Object client) {
+      lanes.add("artefacts:" + System.identityHashCode(client));
+      needs.add(TOPICS);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology.actions;
 
 import static com.purbon.kafka.topology.utils.Utils.filePath;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.utils.Utils;
@@ -46,6 +47,15 @@ public class CreateArtefactAction extends BaseAction {
     return artefact;
   }
 
+  ArtefactClient getClient() {
+    return client;
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.addArtefact(artefact);
+  }
+
   private String content() throws IOException {
     LOGGER.debug(
         String.format(
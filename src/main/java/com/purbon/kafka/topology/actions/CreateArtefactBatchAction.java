@@ -0,0 +1,132 @@
+package com.purbon.kafka.topology.actions;
+
+import static com.purbon.kafka.topology.utils.Utils.filePath;
+
+import com.purbon.kafka.topology.ExecutionState;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Creates groups of artefacts that depend on each other. The artefacts of a batch are created one
+ * after the other in the given order, while different batches are created at the same time, up to
+ * the given parallelism. A batch stops at its first failure, the other batches go on, and the
+ * artefacts created are recorded even if some failed.
+ */
+public class CreateArtefactBatchAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(CreateArtefactBatchAction.class);
+
+  private final ArtefactClient client;
+  private final String rootPath;
+  private final List<List<Artefact>> batches;
+  private final int parallelism;
+  private final Set<Artefact> createdArtefacts;
+
+  public CreateArtefactBatchAction(
+      ArtefactClient client, String rootPath, List<List<Artefact>> batches, int parallelism) {
+    this.client = client;
+    this.rootPath = rootPath;
+    this.batches = batches;
+    this.parallelism = parallelism;
+    this.createdArtefacts = Collections.synchronizedSet(new LinkedHashSet<>());
+  }
+
+  @Override
+  public void run() throws IOException {
+    if (batches.isEmpty()) {
+      return;
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, batches.size())));
+    Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (List<Artefact> batch : batches) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (Artefact artefact : batch) {
+                    try {
+                      create(artefact);
+                    } catch (IOException | RuntimeException e) {
+                      // the next artefacts of the batch depend on this one
+                      failures.put(artefact.getName(), e);
+                      break;
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (!failures.isEmpty()) {
+      failures.forEach(
+          (name, error) ->
+              LOGGER.error(String.format("Failed to create artefact %s", name), error));
+      PartialFailureException failure =
+          new PartialFailureException(
+              String.format("Failed to create the artefacts %s", failures.keySet()));
+      failures.values().forEach(failure::addSuppressed);
+      throw failure;
+    }
+  }
+
+  private void create(Artefact artefact) throws IOException {
+    LOGGER.info(
+        String.format("Creating artefact %s for client %s", artefact.getName(), client.getClass()));
+    client.add(Utils.readFullFile(filePath(artefact.getPath(), rootPath)));
+    createdArtefacts.add(artefact);
+  }
+
+  public List<List<Artefact>> getBatches() {
+    return batches;
+  }
+
+  ArtefactClient getClient() {
+    return client;
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    createdArtefacts.forEach(state::addArtefact);
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put(
+        "Artefacts",
+        batches.stream()
+            .map(batch -> batch.stream().map(Artefact::getPath).collect(Collectors.toList()))
+            .collect(Collectors.toList()));
+    return map;
+  }
+}
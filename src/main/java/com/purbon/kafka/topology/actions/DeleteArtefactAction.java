@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.actions;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.artefact.TypeArtefact;
@@ -41,6 +42,15 @@ public class DeleteArtefactAction extends BaseAction {
     return artefact;
   }
 
+  ArtefactClient getClient() {
+    return client;
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.removeArtefact(artefact);
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
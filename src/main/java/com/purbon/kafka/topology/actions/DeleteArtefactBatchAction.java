@@ -0,0 +1,81 @@
+package com.purbon.kafka.topology.actions;
+
+import com.purbon.kafka.topology.ExecutionState;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
+import com.purbon.kafka.topology.model.Artefact;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Deletes artefacts one after the other, in the given order. Every artefact is attempted even if
+ * others fail, and only the artefacts deleted are removed from the state.
+ */
+public class DeleteArtefactBatchAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(DeleteArtefactBatchAction.class);
+
+  private final ArtefactClient client;
+  private final List<DeleteArtefactAction> actions;
+  private final List<DeleteArtefactAction> completedActions;
+
+  public DeleteArtefactBatchAction(ArtefactClient client, List<? extends Artefact> artefacts) {
+    this.client = client;
+    this.actions =
+        artefacts.stream()
+            .map(artefact -> new DeleteArtefactAction(client, artefact))
+            .collect(Collectors.toList());
+    this.completedActions = new ArrayList<>();
+  }
+
+  @Override
+  public void run() throws IOException {
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    for (DeleteArtefactAction action : actions) {
+      try {
+        action.run();
+        completedActions.add(action);
+      } catch (IOException | RuntimeException e) {
+        LOGGER.error(
+            String.format("Failed to delete artefact %s", action.getArtefact().getName()), e);
+        failures.put(action.getArtefact().getName(), e);
+      }
+    }
+    if (!failures.isEmpty()) {
+      PartialFailureException failure =
+          new PartialFailureException(
+              String.format("Failed to delete the artefacts %s", failures.keySet()));
+      failures.values().forEach(failure::addSuppressed);
+      throw failure;
+    }
+  }
+
+  public List<Artefact> getArtefacts() {
+    return actions.stream().map(DeleteArtefactAction::getArtefact).collect(Collectors.toList());
+  }
+
+  ArtefactClient getClient() {
+    return client;
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    completedActions.forEach(action -> action.applyTo(state));
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put(
+        "Artefacts", getArtefacts().stream().map(Artefact::getName).collect(Collectors.toList()));
+    return map;
+  }
+}
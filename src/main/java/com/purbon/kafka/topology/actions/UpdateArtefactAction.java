@@ -0,0 +1,51 @@
+package com.purbon.kafka.topology.actions;
+
+import static com.purbon.kafka.topology.utils.Utils.filePath;
+
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class UpdateArtefactAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(UpdateArtefactAction.class);
+
+  private ArtefactClient client;
+  private Artefact artefact;
+  private String rootPath;
+
+  public UpdateArtefactAction(ArtefactClient client, String rootPath, Artefact artefact) {
+    this.client = client;
+    this.artefact = artefact;
+    this.rootPath = rootPath;
+  }
+
+  @Override
+  public void run() throws IOException {
+    LOGGER.info(
+        String.format("Updating artefact %s for client %s", artefact.getName(), client.getClass()));
+    String content = Utils.readFullFile(filePath(artefact.getPath(), rootPath));
+    client.update(artefact.getName(), content);
+  }
+
+  public Artefact getArtefact() {
+    return artefact;
+  }
+
+  ArtefactClient getClient() {
+    return client;
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put("Artefact", artefact.getPath());
+    return map;
+  }
+}
@@ -1,13 +1,18 @@
 package com.purbon.kafka.topology.actions.access;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -16,17 +21,35 @@ public class ClearBindings extends BaseAccessControlAction {
   private static final Logger LOGGER = LogManager.getLogger(ClearBindings.class);
 
   private final AccessControlProvider controlProvider;
+  private final Set<TopologyAclBinding> removedBindings;
 
   public ClearBindings(
       AccessControlProvider controlProvider, Collection<TopologyAclBinding> bindingsForRemoval) {
     super(bindingsForRemoval);
     this.controlProvider = controlProvider;
+    this.removedBindings = new HashSet<>();
+  }
+
+  public Set<TopologyAclBinding> getRemovedBindings() {
+    return removedBindings;
   }
 
   @Override
   protected void execute() throws IOException {
     LOGGER.debug("ClearBindings: " + aclBindings);
-    controlProvider.clearBindings(new HashSet(aclBindings));
+    removedBindings.addAll(controlProvider.clearBindings(new HashSet(aclBindings)));
+    List<TopologyAclBinding> failedBindings =
+        aclBindings.stream()
+            .filter(binding -> !removedBindings.contains(binding))
+            .collect(Collectors.toList());
+    if (!failedBindings.isEmpty()) {
+      throw new PartialFailureException("Failed to remove the bindings " + failedBindings);
+    }
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.removeBindings(removedBindings);
   }
 
   @Override
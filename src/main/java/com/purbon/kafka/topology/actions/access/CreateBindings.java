@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.actions.access;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
@@ -28,6 +29,11 @@ public class CreateBindings extends BaseAccessControlAction {
     controlProvider.createBindings(new HashSet<>(aclBindings));
   }
 
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.addBindings(aclBindings);
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.actions.accounts;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.PrincipalProvider;
 import com.purbon.kafka.topology.actions.BaseAccountsAction;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
@@ -23,4 +24,9 @@ public class ClearAccounts extends BaseAccountsAction {
       provider.deleteServiceAccount(account.getName());
     }
   }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.removeServiceAccounts(accounts);
+  }
 }
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.actions.accounts;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.PrincipalProvider;
 import com.purbon.kafka.topology.actions.BaseAccountsAction;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
@@ -28,4 +29,9 @@ public class CreateAccounts extends BaseAccountsAction {
     }
     accounts = mappedAccounts;
   }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.addServiceAccounts(accounts);
+  }
 }
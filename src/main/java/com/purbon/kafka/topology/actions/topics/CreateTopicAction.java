@@ -1,9 +1,11 @@
 package com.purbon.kafka.topology.actions.topics;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.actions.BaseAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.logging.log4j.LogManager;
@@ -28,6 +30,14 @@ public class CreateTopicAction extends BaseAction {
     return fullTopicName;
   }
 
+  Topic getTopicModel() {
+    return topic;
+  }
+
+  TopologyBuilderAdminClient getAdminClient() {
+    return adminClient;
+  }
+
   @Override
   public void run() throws IOException {
     createTopic(topic, fullTopicName);
@@ -38,6 +48,11 @@ public class CreateTopicAction extends BaseAction {
     adminClient.createTopic(topic, fullTopicName);
   }
 
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.addTopics(Collections.singleton(fullTopicName));
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.actions.topics;
 
+import com.purbon.kafka.topology.ExecutionState;
 import com.purbon.kafka.topology.actions.BaseAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import java.io.IOException;
@@ -27,6 +28,11 @@ public class DeleteTopics extends BaseAction {
     adminClient.deleteTopics(topicsToBeDeleted);
   }
 
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.removeTopics(topicsToBeDeleted);
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
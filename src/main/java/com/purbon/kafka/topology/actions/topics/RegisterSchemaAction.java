@@ -6,7 +6,9 @@ import com.purbon.kafka.topology.model.schema.Subject;
 import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
@@ -19,18 +21,68 @@ public class RegisterSchemaAction extends BaseAction {
   private final Topic topic;
   private final String fullTopicName;
   private final SchemaRegistryManager schemaRegistryManager;
+  private final boolean verifyRegistered;
+  private final List<String> registeredSubjects;
 
   public RegisterSchemaAction(
       SchemaRegistryManager schemaRegistryManager, Topic topic, String fullTopicName) {
+    this(schemaRegistryManager, topic, fullTopicName, false);
+  }
+
+  /**
+   * @param verifyRegistered if true, the subjects registered already according to the fingerprint
+   *     index are confirmed against the registry when the action runs, and only registered again if
+   *     the registry differs
+   */
+  public RegisterSchemaAction(
+      SchemaRegistryManager schemaRegistryManager,
+      Topic topic,
+      String fullTopicName,
+      boolean verifyRegistered) {
     this.topic = topic;
     this.fullTopicName = fullTopicName;
     this.schemaRegistryManager = schemaRegistryManager;
+    this.verifyRegistered = verifyRegistered;
+    this.registeredSubjects = new ArrayList<>();
   }
 
   public String getTopic() {
     return fullTopicName;
   }
 
+  public List<String> getRegisteredSubjects() {
+    return registeredSubjects;
+  }
+
+  /**
+   * @return true if every schema of the topic was registered already, with the same schema and
+   *     compatibility, by a previous run
+   */
+  public boolean isUpToDate() {
+    for (TopicSchemas schema : topic.getSchemas()) {
+      if (!isRegistered(schema.getKeySubject()) || !isRegistered(schema.getValueSubject())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isRegistered(Subject subject) {
+    if (!subject.hasSchemaFile()) {
+      return true;
+    }
+    try {
+      return schemaRegistryManager.isRegistered(
+          subject.buildSubjectName(topic),
+          subject.getSchemaFile(),
+          subject.getFormat(),
+          subject.getOptionalCompatibility());
+    } catch (IOException e) {
+      // let the action run and report the error
+      return false;
+    }
+  }
+
   @Override
   public void run() throws IOException {
     registerSchemas(topic, fullTopicName);
@@ -49,8 +101,21 @@ public class RegisterSchemaAction extends BaseAction {
     if (subject.hasSchemaFile()) {
       String keySchemaFile = subject.getSchemaFile();
       String subjectName = subject.buildSubjectName(topic);
+      if (verifyRegistered
+          && isRegistered(subject)
+          && schemaRegistryManager.isLatest(
+              subjectName,
+              keySchemaFile,
+              subject.getFormat(),
+              subject.getOptionalCompatibility())) {
+        LOGGER.debug(String.format("Subject %s is registered already", subjectName));
+        return;
+      }
       schemaRegistryManager.register(subjectName, keySchemaFile, subject.getFormat());
       setCompatibility(subjectName, subject.getOptionalCompatibility());
+      schemaRegistryManager.registered(
+          subjectName, keySchemaFile, subject.getFormat(), subject.getOptionalCompatibility());
+      registeredSubjects.add(subjectName);
     }
   }
 
@@ -0,0 +1,95 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.actions.BaseAction;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Registers the schemas of many topics at the same time, up to the given parallelism. The schemas
+ * of a topic are registered one after the other, every topic is attempted even if others fail, and
+ * the failures are reported together at the end.
+ */
+public class RegisterSchemaBatchAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(RegisterSchemaBatchAction.class);
+
+  private final List<RegisterSchemaAction> actions;
+  private final int parallelism;
+
+  public RegisterSchemaBatchAction(List<RegisterSchemaAction> actions, int parallelism) {
+    this.actions = actions;
+    this.parallelism = parallelism;
+  }
+
+  public List<String> getTopics() {
+    return actions.stream().map(RegisterSchemaAction::getTopic).collect(Collectors.toList());
+  }
+
+  @Override
+  public void run() throws IOException {
+    if (actions.isEmpty()) {
+      return;
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, actions.size())));
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    int registered = 0;
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (RegisterSchemaAction action : actions) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  action.run();
+                  return null;
+                }));
+      }
+      for (int i = 0; i < actions.size(); i++) {
+        RegisterSchemaAction action = actions.get(i);
+        try {
+          futures.get(i).get();
+        } catch (ExecutionException e) {
+          failures.put(action.getTopic(), e.getCause());
+        }
+        registered += action.getRegisteredSubjects().size();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    LOGGER.info(
+        String.format(
+            "Registered %d schemas for %d topics, %d topics failed",
+            registered, actions.size() - failures.size(), failures.size()));
+    if (!failures.isEmpty()) {
+      failures.forEach(
+          (topic, error) ->
+              LOGGER.error(
+                  String.format("Failed to register the schemas of topic %s", topic), error));
+      throw new IOException(
+          String.format("Failed to register the schemas of the topics %s", failures.keySet()));
+    }
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put("Topics", getTopics());
+    map.put("Parallelism", parallelism);
+    return map;
+  }
+}
@@ -0,0 +1,125 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.ExecutionState;
+import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs a group of topic create, partition increase and config update actions as bulk admin requests
+ * of at most batchSize topics each. Every topic still reports its own result.
+ */
+public class TopicBatchAction extends BaseAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopicBatchAction.class);
+
+  private final TopologyBuilderAdminClient adminClient;
+  private final List<CreateTopicAction> createTopicActions;
+  private final List<UpdateTopicConfigAction> updateTopicConfigActions;
+  private final int batchSize;
+  private final Set<String> createdTopics;
+
+  public TopicBatchAction(
+      List<CreateTopicAction> createTopicActions,
+      List<UpdateTopicConfigAction> updateTopicConfigActions,
+      int batchSize) {
+    this.adminClient =
+        createTopicActions.isEmpty()
+            ? updateTopicConfigActions.get(0).getAdminClient()
+            : createTopicActions.get(0).getAdminClient();
+    this.createTopicActions = createTopicActions;
+    this.updateTopicConfigActions = updateTopicConfigActions;
+    this.batchSize = batchSize;
+    this.createdTopics = new HashSet<>();
+  }
+
+  public Set<String> getCreatedTopics() {
+    return createdTopics;
+  }
+
+  public List<String> getTopics() {
+    List<String> topics =
+        createTopicActions.stream().map(CreateTopicAction::getTopic).collect(Collectors.toList());
+    updateTopicConfigActions.forEach(
+        action -> topics.add(action.getTopicConfigUpdatePlan().getFullTopicName()));
+    return topics;
+  }
+
+  @Override
+  public void run() throws IOException {
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+
+    for (List<CreateTopicAction> batch : Utils.partition(createTopicActions, batchSize)) {
+      Map<String, Topic> topics = new LinkedHashMap<>();
+      batch.forEach(action -> topics.put(action.getTopic(), action.getTopicModel()));
+      LOGGER.debug(String.format("Create new topics %s", topics.keySet()));
+      Map<String, Throwable> batchFailures = adminClient.createTopics(topics);
+      topics.keySet().stream()
+          .filter(topic -> !batchFailures.containsKey(topic))
+          .forEach(createdTopics::add);
+      failures.putAll(batchFailures);
+    }
+
+    for (List<UpdateTopicConfigAction> batch :
+        Utils.partition(updateTopicConfigActions, batchSize)) {
+      List<TopicConfigUpdatePlan> plans =
+          batch.stream()
+              .map(UpdateTopicConfigAction::getTopicConfigUpdatePlan)
+              .collect(Collectors.toList());
+
+      Map<String, Topic> partitionUpdates = new LinkedHashMap<>();
+      plans.stream()
+          .filter(TopicConfigUpdatePlan::isUpdatePartitionCount)
+          .forEach(plan -> partitionUpdates.put(plan.getFullTopicName(), plan.getTopic()));
+      if (!partitionUpdates.isEmpty()) {
+        LOGGER.debug(
+            String.format("Update partition count of topics %s", partitionUpdates.keySet()));
+        failures.putAll(adminClient.updatePartitionCounts(partitionUpdates));
+      }
+
+      LOGGER.debug(String.format("Update config for %d topics", plans.size()));
+      failures.putAll(adminClient.updateTopicConfigs(plans));
+    }
+
+    if (!failures.isEmpty()) {
+      failures.forEach(
+          (topic, error) ->
+              LOGGER.error(String.format("Failed to create or update topic %s", topic), error));
+      // the topics created so far are still recorded
+      throw new PartialFailureException(
+          String.format("Failed to create or update the topics %s", failures.keySet()));
+    }
+  }
+
+  @Override
+  public void applyTo(ExecutionState state) {
+    state.addTopics(createdTopics);
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put(
+        "CreateTopics",
+        createTopicActions.stream().map(CreateTopicAction::getTopic).collect(Collectors.toList()));
+    map.put(
+        "UpdateTopics",
+        updateTopicConfigActions.stream()
+            .map(action -> action.getTopicConfigUpdatePlan().getFullTopicName())
+            .collect(Collectors.toList()));
+    map.put("BatchSize", batchSize);
+    return map;
+  }
+}
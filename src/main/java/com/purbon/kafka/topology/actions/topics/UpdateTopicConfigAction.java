@@ -22,6 +22,14 @@ public class UpdateTopicConfigAction extends BaseAction {
     this.adminClient = adminClient;
   }
 
+  public TopicConfigUpdatePlan getTopicConfigUpdatePlan() {
+    return topicConfigUpdatePlan;
+  }
+
+  TopologyBuilderAdminClient getAdminClient() {
+    return adminClient;
+  }
+
   @Override
   public void run() throws IOException {
     final Topic topic = topicConfigUpdatePlan.getTopic();
@@ -1,7 +1,7 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
-import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.api.adminclient.ClusterTopicSnapshot;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
 import java.util.HashMap;
@@ -9,20 +9,25 @@ import org.apache.kafka.clients.admin.Config;
 
 public class TopicConfigUpdatePlanBuilder {
 
-  private TopologyBuilderAdminClient adminClient;
+  private final ClusterTopicSnapshot snapshot;
 
-  public TopicConfigUpdatePlanBuilder(TopologyBuilderAdminClient adminClient) {
-    this.adminClient = adminClient;
+  public TopicConfigUpdatePlanBuilder(ClusterTopicSnapshot snapshot) {
+    this.snapshot = snapshot;
   }
 
   public TopicConfigUpdatePlan createTopicConfigUpdatePlan(Topic topic, String fullTopicName) {
 
-    Config currentKafkaConfigs = adminClient.getActualTopicConfig(fullTopicName);
+    Config currentKafkaConfigs;
+    try {
+      currentKafkaConfigs = snapshot.getConfig(fullTopicName);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the config for topic " + fullTopicName, e);
+    }
 
     TopicConfigUpdatePlan topicConfigUpdatePlan = new TopicConfigUpdatePlan(topic);
 
     try {
-      if (topic.partitionsCount() > adminClient.getPartitionCount(fullTopicName)) {
+      if (topic.partitionsCount() > snapshot.getPartitionCount(fullTopicName)) {
         topicConfigUpdatePlan.setUpdatePartitionCount(true);
       }
     } catch (IOException e) {
@@ -0,0 +1,101 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In memory view of the config and partition count of the existing topics, loaded once per run with
+ * batched describeConfigs and describeTopics requests.
+ */
+public class ClusterTopicSnapshot {
+
+  private static final Logger LOGGER = LogManager.getLogger(ClusterTopicSnapshot.class);
+
+  private final Map<String, Config> configs;
+  private final Map<String, Integer> partitionCounts;
+
+  public ClusterTopicSnapshot() {
+    this(new HashMap<>(), new HashMap<>());
+  }
+
+  public ClusterTopicSnapshot(Map<String, Config> configs, Map<String, Integer> partitionCounts) {
+    this.configs = configs;
+    this.partitionCounts = partitionCounts;
+  }
+
+  public static ClusterTopicSnapshot load(
+      TopologyBuilderAdminClient adminClient,
+      Collection<String> topics,
+      int batchSize,
+      int parallelism)
+      throws IOException {
+
+    List<List<String>> batches = Utils.partition(topics, batchSize);
+    Map<String, Config> configs = new ConcurrentHashMap<>();
+    Map<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+
+    if (batches.isEmpty()) {
+      return new ClusterTopicSnapshot(configs, partitionCounts);
+    }
+
+    LOGGER.debug(
+        String.format(
+            "Loading the cluster state of %d topics in %d batches", topics.size(), batches.size()));
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, batches.size())));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (List<String> batch : batches) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  configs.putAll(adminClient.getActualTopicConfigs(batch));
+                  partitionCounts.putAll(adminClient.getPartitionCounts(batch));
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to load the topic state from the cluster", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return new ClusterTopicSnapshot(configs, partitionCounts);
+  }
+
+  public Config getConfig(String topic) throws IOException {
+    Config config = configs.get(topic);
+    if (config == null) {
+      throw new IOException("No config found in the cluster state for topic " + topic);
+    }
+    return config;
+  }
+
+  public int getPartitionCount(String topic) throws IOException {
+    Integer partitionCount = partitionCounts.get(topic);
+    if (partitionCount == null) {
+      throw new IOException("No partition count found in the cluster state for topic " + topic);
+    }
+    return partitionCount;
+  }
+}
@@ -3,24 +3,34 @@ package com.purbon.kafka.topology.api.adminclient;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult.FilterResult;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -77,6 +87,41 @@ public class TopologyBuilderAdminClient {
   }
 
   public void updateTopicConfig(TopicConfigUpdatePlan configUpdatePlan) {
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+    configs.put(
+        new ConfigResource(Type.TOPIC, configUpdatePlan.getFullTopicName()),
+        configChanges(configUpdatePlan));
+
+    try {
+      adminClient.incrementalAlterConfigs(configs).all().get();
+    } catch (InterruptedException | ExecutionException ex) {
+      LOGGER.error("Failed to update configs for topic " + configUpdatePlan.getFullTopicName(), ex);
+      throw new RuntimeException(ex);
+    }
+  }
+
+  /**
+   * Update the config of a group of topics with a single incrementalAlterConfigs request.
+   *
+   * @param configUpdatePlans The list of config update plans
+   * @return Map of topic name to the error raised while updating it, empty if all succeeded
+   */
+  public Map<String, Throwable> updateTopicConfigs(
+      Collection<TopicConfigUpdatePlan> configUpdatePlans) {
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+    configUpdatePlans.forEach(
+        plan ->
+            configs.put(
+                new ConfigResource(Type.TOPIC, plan.getFullTopicName()), configChanges(plan)));
+    Map<String, KafkaFuture<Void>> results = new HashMap<>();
+    adminClient
+        .incrementalAlterConfigs(configs)
+        .values()
+        .forEach((resource, future) -> results.put(resource.name(), future));
+    return collectFailures(results);
+  }
+
+  private Set<AlterConfigOp> configChanges(TopicConfigUpdatePlan configUpdatePlan) {
     Set<AlterConfigOp> configChanges = new HashSet<>();
 
     configUpdatePlan
@@ -99,15 +144,7 @@ public class TopologyBuilderAdminClient {
             (configKey, configValue) ->
                 configChanges.add(
                     new AlterConfigOp(new ConfigEntry(configKey, configValue), OpType.DELETE)));
-    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
-    configs.put(new ConfigResource(Type.TOPIC, configUpdatePlan.getFullTopicName()), configChanges);
-
-    try {
-      adminClient.incrementalAlterConfigs(configs).all().get();
-    } catch (InterruptedException | ExecutionException ex) {
-      LOGGER.error("Failed to update configs for topic " + configUpdatePlan.getFullTopicName(), ex);
-      throw new RuntimeException(ex);
-    }
+    return configChanges;
   }
 
   public int getPartitionCount(String topic) throws IOException {
@@ -121,6 +158,19 @@ public class TopologyBuilderAdminClient {
     }
   }
 
+  public Map<String, Integer> getPartitionCounts(Collection<String> topics) throws IOException {
+    try {
+      Map<String, TopicDescription> results = adminClient.describeTopics(topics).all().get();
+      Map<String, Integer> partitionCounts = new HashMap<>();
+      results.forEach(
+          (topic, description) -> partitionCounts.put(topic, description.partitions().size()));
+      return partitionCounts;
+    } catch (InterruptedException | ExecutionException e) {
+      LOGGER.error(e);
+      throw new IOException(e);
+    }
+  }
+
   public void updatePartitionCount(Topic topic, String topicName) throws IOException {
     Map<String, NewPartitions> map = new HashMap<>();
     map.put(topicName, NewPartitions.increaseTo(topic.partitionsCount()));
@@ -132,6 +182,20 @@ public class TopologyBuilderAdminClient {
     }
   }
 
+  /**
+   * Increase the partition count of a group of topics with a single createPartitions request.
+   *
+   * @param topics Map of full topic name to topic, with the new partition count
+   * @return Map of topic name to the error raised while updating it, empty if all succeeded
+   */
+  public Map<String, Throwable> updatePartitionCounts(Map<String, Topic> topics) {
+    Map<String, NewPartitions> map = new HashMap<>();
+    topics.forEach(
+        (topicName, topic) ->
+            map.put(topicName, NewPartitions.increaseTo(topic.partitionsCount())));
+    return collectFailures(adminClient.createPartitions(map).values());
+  }
+
   public void clearAcls() throws IOException {
     Collection<AclBindingFilter> filters = new ArrayList<>();
     filters.add(AclBindingFilter.ANY);
@@ -142,6 +206,77 @@ public class TopologyBuilderAdminClient {
     Collection<AclBindingFilter> filters = new ArrayList<>();
 
     LOGGER.debug("clearAcl = " + aclBinding);
+    filters.add(aclBindingFilter(aclBinding));
+    clearAcls(filters);
+  }
+
+  /**
+   * Delete a group of acls with chunked deleteAcls requests. Up to maxInFlight requests are sent
+   * before waiting for the oldest one to complete.
+   *
+   * @param aclBindings the bindings to delete
+   * @param batchSize max number of filters per deleteAcls request
+   * @param maxInFlight max number of deleteAcls requests waiting for a response
+   * @return Map of binding to the error raised while deleting it, empty if all succeeded
+   */
+  public Map<TopologyAclBinding, Throwable> clearAcls(
+      Collection<TopologyAclBinding> aclBindings, int batchSize, int maxInFlight) {
+    Map<TopologyAclBinding, Throwable> failures = new HashMap<>();
+    Deque<Map<AclBindingFilter, List<TopologyAclBinding>>> pendingBatches = new ArrayDeque<>();
+    Deque<DeleteAclsResult> pendingResults = new ArrayDeque<>();
+
+    for (List<TopologyAclBinding> batch : Utils.partition(aclBindings, batchSize)) {
+      Map<AclBindingFilter, List<TopologyAclBinding>> filters = new LinkedHashMap<>();
+      batch.forEach(
+          binding ->
+              filters
+                  .computeIfAbsent(aclBindingFilter(binding), f -> new ArrayList<>())
+                  .add(binding));
+      LOGGER.debug(String.format("Delete %d acls", filters.size()));
+      pendingBatches.add(filters);
+      pendingResults.add(adminClient.deleteAcls(filters.keySet()));
+      if (pendingResults.size() >= maxInFlight) {
+        collectDeleteAclsFailures(pendingBatches.poll(), pendingResults.poll(), failures);
+      }
+    }
+    while (!pendingResults.isEmpty()) {
+      collectDeleteAclsFailures(pendingBatches.poll(), pendingResults.poll(), failures);
+    }
+    return failures;
+  }
+
+  private void collectDeleteAclsFailures(
+      Map<AclBindingFilter, List<TopologyAclBinding>> filters,
+      DeleteAclsResult result,
+      Map<TopologyAclBinding, Throwable> failures) {
+    result
+        .values()
+        .forEach(
+            (filter, future) -> {
+              Throwable error = null;
+              try {
+                error =
+                    future.get().values().stream()
+                        .map(FilterResult::exception)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
+              } catch (ExecutionException e) {
+                error = e.getCause();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = e;
+              }
+              if (error != null) {
+                for (TopologyAclBinding binding :
+                    filters.getOrDefault(filter, Collections.emptyList())) {
+                  failures.put(binding, error);
+                }
+              }
+            });
+  }
+
+  private AclBindingFilter aclBindingFilter(TopologyAclBinding aclBinding) {
     ResourcePatternFilter resourceFilter =
         new ResourcePatternFilter(
             ResourceType.valueOf(aclBinding.getResourceType()),
@@ -155,9 +290,7 @@ public class TopologyBuilderAdminClient {
             AclOperation.valueOf(aclBinding.getOperation()),
             AclPermissionType.ANY);
 
-    AclBindingFilter filter = new AclBindingFilter(resourceFilter, accessControlEntryFilter);
-    filters.add(filter);
-    clearAcls(filters);
+    return new AclBindingFilter(resourceFilter, accessControlEntryFilter);
   }
 
   private void clearAcls(Collection<AclBindingFilter> filters) throws IOException {
@@ -184,10 +317,24 @@ public class TopologyBuilderAdminClient {
     return configs.get(resource);
   }
 
+  public Map<String, Config> getActualTopicConfigs(Collection<String> topics) throws IOException {
+    Collection<ConfigResource> resources =
+        topics.stream()
+            .map(topic -> new ConfigResource(Type.TOPIC, topic))
+            .collect(Collectors.toList());
+    try {
+      Map<ConfigResource, Config> configs = adminClient.describeConfigs(resources).all().get();
+      Map<String, Config> topicConfigs = new HashMap<>();
+      configs.forEach((resource, config) -> topicConfigs.put(resource.name(), config));
+      return topicConfigs;
+    } catch (InterruptedException | ExecutionException e) {
+      LOGGER.error(e);
+      throw new IOException(e);
+    }
+  }
+
   public void createTopic(Topic topic, String fullTopicName) throws IOException {
-    NewTopic newTopic =
-        new NewTopic(fullTopicName, topic.partitionsCountOptional(), topic.replicationFactor())
-            .configs(topic.getRawConfig());
+    NewTopic newTopic = newTopic(topic, fullTopicName);
     try {
       createAllTopics(Collections.singleton(newTopic));
     } catch (TopicExistsException ex) {
@@ -198,6 +345,44 @@ public class TopologyBuilderAdminClient {
     }
   }
 
+  /**
+   * Create a group of topics with a single createTopics request. Topics that already exist are not
+   * reported as failed.
+   *
+   * @param topics Map of full topic name to topic
+   * @return Map of topic name to the error raised while creating it, empty if all succeeded
+   */
+  public Map<String, Throwable> createTopics(Map<String, Topic> topics) {
+    List<NewTopic> newTopics =
+        topics.entrySet().stream()
+            .map(entry -> newTopic(entry.getValue(), entry.getKey()))
+            .collect(Collectors.toList());
+    Map<String, Throwable> failures = collectFailures(adminClient.createTopics(newTopics).values());
+    failures.values().removeIf(TopicExistsException.class::isInstance);
+    return failures;
+  }
+
+  private NewTopic newTopic(Topic topic, String fullTopicName) {
+    return new NewTopic(fullTopicName, topic.partitionsCountOptional(), topic.replicationFactor())
+        .configs(topic.getRawConfig());
+  }
+
+  private Map<String, Throwable> collectFailures(Map<String, KafkaFuture<Void>> results) {
+    Map<String, Throwable> failures = new HashMap<>();
+    results.forEach(
+        (topic, future) -> {
+          try {
+            future.get();
+          } catch (ExecutionException e) {
+            failures.put(topic, e.getCause());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(topic, e);
+          }
+        });
+    return failures;
+  }
+
   private void createAllTopics(Collection<NewTopic> newTopics)
       throws ExecutionException, InterruptedException {
     adminClient.createTopics(newTopics).all().get();
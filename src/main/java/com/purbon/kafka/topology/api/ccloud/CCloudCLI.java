@@ -1,12 +1,18 @@
 package com.purbon.kafka.topology.api.ccloud;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,39 +21,39 @@ public class CCloudCLI {
 
   private static final Logger LOGGER = LogManager.getLogger(CCloudCLI.class);
 
-  private ObjectMapper mapper;
+  /** The most output kept to report a failed command. */
+  private static final int MAX_OUTPUT_IN_ERRORS = 4096;
+
+  private final String executable;
+  private final ObjectReader serviceAccountsReader;
+  private final ObjectReader serviceAccountReader;
 
   public CCloudCLI() {
-    mapper = new ObjectMapper();
+    this("ccloud");
+  }
+
+  CCloudCLI(String executable) {
+    this.executable = executable;
+    ObjectMapper mapper = new ObjectMapper().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    serviceAccountsReader = mapper.readerFor(ServiceAccount[].class);
+    serviceAccountReader = mapper.readerFor(ServiceAccount.class);
   }
 
   public Map<String, ServiceAccount> serviceAccounts() throws IOException {
-    List<String> cmd = Arrays.asList("ccloud", "service-account", "list", "--output", "json");
-    String stdout = "";
-    try {
-      stdout = run(cmd);
-      ServiceAccount[] items = mapper.readValue(stdout, ServiceAccount[].class);
-      return Arrays.stream(items).collect(Collectors.toMap(ServiceAccount::getName, i -> i));
-    } catch (IOException | InterruptedException e) {
-      handleError(stdout, e);
-      return null;
-    }
+    List<String> cmd = Arrays.asList(executable, "service-account", "list", "--output", "json");
+    ServiceAccount[] items = run(cmd, serviceAccountsReader);
+    return Arrays.stream(items).collect(Collectors.toMap(ServiceAccount::getName, i -> i));
   }
 
   public void setEnvironment(String environment) throws IOException {
-    List<String> cmd = Arrays.asList("ccloud", "environment", "use", environment);
-    String stdout = "";
-    try {
-      stdout = run(cmd);
-    } catch (IOException | InterruptedException e) {
-      handleError(stdout, e);
-    }
+    List<String> cmd = Arrays.asList(executable, "environment", "use", environment);
+    run(cmd);
   }
 
   public ServiceAccount newServiceAccount(String name, String description) throws IOException {
     List<String> cmd =
         Arrays.asList(
-            "ccloud",
+            executable,
             "service-account",
             "create",
             name,
@@ -55,49 +61,113 @@ public class CCloudCLI {
             description,
             "--output",
             "json");
-    String stdout = "";
-    ServiceAccount sa = null;
-    try {
-      stdout = run(cmd);
-      sa = mapper.readValue(stdout, ServiceAccount.class);
-    } catch (IOException | InterruptedException e) {
-      handleError(stdout, e);
-    }
-    return sa;
+    return run(cmd, serviceAccountReader);
   }
 
   public void deleteServiceAccount(int id) throws IOException {
-    List<String> cmd = Arrays.asList("ccloud", "service-account", "delete", String.valueOf(id));
-    String stdout = "";
-    try {
-      stdout = run(cmd);
-    } catch (IOException | InterruptedException e) {
-      handleError(stdout, e);
+    List<String> cmd = Arrays.asList(executable, "service-account", "delete", String.valueOf(id));
+    run(cmd);
+  }
+
+  /**
+   * Run the command and parse its output as it is read. The errors of the command come in the same
+   * stream, so when the output can not be parsed, or the command exits with an error, the output is
+   * reported with the exit code.
+   */
+  private <T> T run(List<String> cmd, ObjectReader reader) throws IOException {
+    Process pr = start(cmd);
+    try (OutputCapture output = new OutputCapture(pr.getInputStream())) {
+      T value;
+      try {
+        value = reader.readValue(output);
+      } catch (IOException e) {
+        output.transferTo(OutputStream.nullOutputStream());
+        waitFor(pr);
+        throw commandFailed(cmd, pr, output, e);
+      }
+      output.transferTo(OutputStream.nullOutputStream());
+      checkExitValue(cmd, pr, output);
+      return value;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      pr.destroy();
+    }
+  }
+
+  private void run(List<String> cmd) throws IOException {
+    Process pr = start(cmd);
+    try (OutputCapture output = new OutputCapture(pr.getInputStream())) {
+      output.transferTo(OutputStream.nullOutputStream());
+      checkExitValue(cmd, pr, output);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } finally {
+      pr.destroy();
     }
   }
 
-  private void handleError(String stdout, Exception e) throws IOException {
-    String errorMsg = String.format("Something happen with ccloud. \n %s", stdout);
-    LOGGER.error(errorMsg, e);
-    throw new IOException(e);
+  private void checkExitValue(List<String> cmd, Process pr, OutputCapture output)
+      throws IOException, InterruptedException {
+    waitFor(pr);
+    if (pr.exitValue() != 0) {
+      throw commandFailed(cmd, pr, output, null);
+    }
   }
 
-  private String run(List<String> cmd) throws IOException, InterruptedException {
+  private IOException commandFailed(
+      List<String> cmd, Process pr, OutputCapture output, Exception cause) {
+    String errorMsg =
+        String.format(
+            "Something happen with ccloud, %s exited with code %d: %s",
+            String.join(" ", cmd), pr.exitValue(), output.captured());
+    LOGGER.error(errorMsg, cause);
+    return new IOException(errorMsg, cause);
+  }
 
+  private Process start(List<String> cmd) throws IOException {
     ProcessBuilder builder = new ProcessBuilder();
     builder.command(cmd);
     builder.redirectErrorStream(true);
+    return builder.start();
+  }
 
-    Process pr = builder.start();
-    String stdout = readStdOut(pr);
+  private void waitFor(Process pr) throws InterruptedException {
     pr.waitFor();
-
     LOGGER.debug("Exit code: " + pr.exitValue());
-    return stdout;
   }
 
-  private String readStdOut(Process pr) {
-    Scanner s = new Scanner(pr.getInputStream()).useDelimiter("\\A");
-    return s.hasNext() ? s.next() : "";
+  /** Keeps the first bytes of the command output, to report them if the command fails. */
+  private static class OutputCapture extends FilterInputStream {
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    OutputCapture(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0 && captured.size() < MAX_OUTPUT_IN_ERRORS) {
+        captured.write(b);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        captured.write(b, off, Math.min(n, MAX_OUTPUT_IN_ERRORS - captured.size()));
+      }
+      return n;
+    }
+
+    String captured() {
+      return captured.toString(StandardCharsets.UTF_8).trim();
+    }
   }
 }
@@ -0,0 +1,82 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The Confluent Cloud service accounts, indexed by name and by id. The accounts are listed once,
+ * the first time they are needed, and the indexes are kept up to date with the accounts created and
+ * deleted through this cache, so a run does not need to list them again.
+ */
+public class ServiceAccountCache {
+
+  private final CCloudCLI cli;
+  private final Map<String, ServiceAccount> byName;
+  private final Map<Integer, ServiceAccount> byId;
+  private boolean loaded;
+
+  public ServiceAccountCache(CCloudCLI cli) {
+    this.cli = cli;
+    this.byName = new HashMap<>();
+    this.byId = new HashMap<>();
+    this.loaded = false;
+  }
+
+  /** @return a snapshot of the service accounts, by name */
+  public synchronized Map<String, ServiceAccount> byName() throws IOException {
+    load();
+    return Collections.unmodifiableMap(new HashMap<>(byName));
+  }
+
+  /** @return a snapshot of the service accounts, by id */
+  public synchronized Map<Integer, ServiceAccount> byId() throws IOException {
+    load();
+    return Collections.unmodifiableMap(new HashMap<>(byId));
+  }
+
+  public synchronized Collection<ServiceAccount> all() throws IOException {
+    load();
+    return new ArrayList<>(byName.values());
+  }
+
+  public synchronized Optional<ServiceAccount> findByName(String name) throws IOException {
+    load();
+    return Optional.ofNullable(byName.get(name));
+  }
+
+  public synchronized ServiceAccount create(String name, String description) throws IOException {
+    ServiceAccount serviceAccount = cli.newServiceAccount(name, description);
+    if (loaded && serviceAccount != null) {
+      index(serviceAccount);
+    }
+    return serviceAccount;
+  }
+
+  public synchronized void delete(String name) throws IOException {
+    ServiceAccount serviceAccount =
+        findByName(name)
+            .orElseThrow(() -> new IOException("Service account " + name + " not found"));
+    cli.deleteServiceAccount(serviceAccount.getId());
+    byName.remove(serviceAccount.getName());
+    byId.remove(serviceAccount.getId());
+  }
+
+  private void load() throws IOException {
+    if (loaded) {
+      return;
+    }
+    cli.serviceAccounts().values().forEach(this::index);
+    loaded = true;
+  }
+
+  private void index(ServiceAccount serviceAccount) {
+    byName.put(serviceAccount.getName(), serviceAccount);
+    byId.put(serviceAccount.getId(), serviceAccount);
+  }
+}
@@ -0,0 +1,108 @@
+package com.purbon.kafka.topology.api.connect;
+
+import com.purbon.kafka.topology.backend.StateCache;
+import com.purbon.kafka.topology.utils.JSON;
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hashes of the connector configs in the local connector files. The index remembers the
+ * modification time and size of every file it hashed, and is kept in the state cache between runs,
+ * so files that did not change are not read again.
+ */
+public class ConnectorConfigIndex {
+
+  private static final String CACHE_NAME = "connectors-config-index";
+  private static final String VERSION = "1";
+
+  private final StateCache cache;
+  private final Map<String, Entry> entries;
+  private boolean changed;
+
+  public ConnectorConfigIndex(StateCache cache) throws IOException {
+    this.cache = cache;
+    this.entries = new HashMap<>();
+    this.changed = false;
+    StateCache.Entry cached = cache.get(CACHE_NAME);
+    if (cached != null && VERSION.equals(cached.getTag())) {
+      String content = new String(cached.getContent(), StandardCharsets.UTF_8);
+      for (String line : content.split("\n")) {
+        String[] fields = line.split(" ", 4);
+        if (fields.length == 4) {
+          entries.put(
+              fields[3],
+              new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[0]));
+        }
+      }
+    }
+  }
+
+  /**
+   * @param path The connector file
+   * @return the hash of the connector config in the file
+   */
+  public String configHash(Path path) throws IOException {
+    String key = path.toAbsolutePath().normalize().toString();
+    long modified = Files.getLastModifiedTime(path).toMillis();
+    long size = Files.size(path);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.modified == modified && entry.size == size) {
+      return entry.hash;
+    }
+    String hash = configHash(KConnectApiClient.config(Utils.readFullFile(path)));
+    entries.put(key, new Entry(modified, size, hash));
+    changed = true;
+    return hash;
+  }
+
+  /**
+   * The hash does not depend on the order of the config keys nor on the name key, that Kafka
+   * Connect adds to the config of every connector.
+   *
+   * @param config A connector config
+   * @return the hash of the config
+   */
+  public static String configHash(Map<String, ?> config) throws IOException {
+    Map<String, String> canonical = new TreeMap<>();
+    config.forEach((key, value) -> canonical.put(key, String.valueOf(value)));
+    canonical.remove("name");
+    return StateCache.hash(JSON.asString(canonical).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public void save() throws IOException {
+    if (!changed) {
+      return;
+    }
+    StringBuilder sb = new StringBuilder();
+    entries.forEach(
+        (path, entry) ->
+            sb.append(entry.hash)
+                .append(" ")
+                .append(entry.modified)
+                .append(" ")
+                .append(entry.size)
+                .append(" ")
+                .append(path)
+                .append("\n"));
+    cache.put(CACHE_NAME, VERSION, sb.toString().getBytes(StandardCharsets.UTF_8));
+    changed = false;
+  }
+
+  private static class Entry {
+    private final long modified;
+    private final long size;
+    private final String hash;
+
+    private Entry(long modified, long size, String hash) {
+      this.modified = modified;
+      this.size = size;
+      this.hash = hash;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.purbon.kafka.topology.api.connect;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/** A connector as listed by a Kafka Connect cluster, with its config and the state of its tasks. */
+public class ConnectorInfo {
+
+  private final String name;
+  private final String type;
+  private final Map<String, String> config;
+  private final String state;
+  private final List<String> taskStates;
+
+  public ConnectorInfo(String name) {
+    this(name, "", Collections.emptyMap(), "", Collections.emptyList());
+  }
+
+  public ConnectorInfo(
+      String name, String type, Map<String, String> config, String state, List<String> taskStates) {
+    this.name = name;
+    this.type = type;
+    this.config = config;
+    this.state = state;
+    this.taskStates = taskStates;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public Map<String, String> getConfig() {
+    return config;
+  }
+
+  /** @return the state of the connector, or an empty string if the cluster did not report it */
+  public String getState() {
+    return state;
+  }
+
+  public List<String> getTaskStates() {
+    return taskStates;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectorInfo{"
+        + "name='"
+        + name
+        + '\''
+        + ", type='"
+        + type
+        + '\''
+        + ", state='"
+        + state
+        + '\''
+        + ", taskStates="
+        + taskStates
+        + '}';
+  }
+}
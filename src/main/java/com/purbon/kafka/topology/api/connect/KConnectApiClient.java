@@ -1,21 +1,33 @@
 package com.purbon.kafka.topology.api.connect;
 
-import com.purbon.kafka.topology.api.mds.Response;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.clients.JulieHttpClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public class KConnectApiClient extends JulieHttpClient implements ArtefactClient {
 
+  private static final ObjectReader CONNECTORS_READER = JSON.listReader(String.class);
+  private static final ObjectReader MAP_READER = JSON.reader(Map.class);
+  private static final ObjectReader TREE_READER = JSON.reader(JsonNode.class);
+
   public KConnectApiClient(String server) {
-    super(server);
+    this(server, new Configuration());
+  }
+
+  public KConnectApiClient(String server, Configuration config) {
+    super(server, config);
   }
 
   @Override
@@ -24,20 +36,77 @@ public class KConnectApiClient extends JulieHttpClient implements ArtefactClient
   }
 
   public List<String> list() throws IOException {
-    Response response = doGet("/connectors");
-    return JSON.toArray(response.getResponseAsString());
+    List<String> connectors = doGet("/connectors", CONNECTORS_READER);
+    return connectors != null ? connectors : new ArrayList<>();
+  }
+
+  /**
+   * List the connectors with their config and status in a single request. Clusters that do not
+   * support expanding the listing (before Kafka 2.3) return only the connector names.
+   *
+   * @return the connectors of the cluster
+   */
+  public List<ConnectorInfo> describe() throws IOException {
+    JsonNode connectors = doGet("/connectors?expand=status&expand=info", TREE_READER);
+    List<ConnectorInfo> infos = new ArrayList<>();
+    if (connectors == null) {
+      return infos;
+    }
+    if (connectors.isArray()) {
+      connectors.forEach(name -> infos.add(new ConnectorInfo(name.asText())));
+      return infos;
+    }
+    connectors
+        .fields()
+        .forEachRemaining(entry -> infos.add(connectorInfo(entry.getKey(), entry.getValue())));
+    return infos;
+  }
+
+  private ConnectorInfo connectorInfo(String name, JsonNode node) {
+    JsonNode info = node.path("info");
+    JsonNode status = node.path("status");
+    Map<String, String> config = new HashMap<>();
+    info.path("config")
+        .fields()
+        .forEachRemaining(entry -> config.put(entry.getKey(), entry.getValue().asText()));
+    List<String> taskStates = new ArrayList<>();
+    status.path("tasks").forEach(task -> taskStates.add(task.path("state").asText()));
+    String type = info.has("type") ? info.path("type").asText() : status.path("type").asText();
+    return new ConnectorInfo(
+        name, type, config, status.path("connector").path("state").asText(), taskStates);
   }
 
   @Override
   public Collection<? extends Artefact> getClusterState() throws IOException {
-    return list().stream()
-        .map(connector -> new KafkaConnectArtefact("", server, connector))
+    return describe().stream()
+        .map(connector -> new KafkaConnectArtefact("", server, connector.getName()))
         .collect(Collectors.toList());
   }
 
   public Map<String, Object> add(String config) throws IOException {
-    String response = doPost("/connectors", config);
-    return JSON.toMap(response);
+    return doPost("/connectors", config, false, MAP_READER);
+  }
+
+  /**
+   * Replace the config of a running connector, the tasks are only restarted by the worker if the
+   * config changed.
+   *
+   * @param connector The connector name
+   * @param content The connector file content, with the name and the config of the connector
+   */
+  @Override
+  public void update(String connector, String content) throws IOException {
+    doPut("/connectors/" + connector + "/config", JSON.asString(config(content)));
+  }
+
+  /**
+   * @param content The content of a connector file
+   * @return the connector config, the config field of the file or the file itself if it has none
+   */
+  static Map<String, Object> config(String content) throws IOException {
+    Map<String, Object> map = JSON.toMap(content);
+    Object config = map.get("config");
+    return config instanceof Map ? (Map<String, Object>) config : map;
   }
 
   public void delete(String connector) throws IOException {
@@ -45,9 +114,11 @@ public class KConnectApiClient extends JulieHttpClient implements ArtefactClient
   }
 
   public String status(String connectorName) throws IOException {
-    Response response = doGet("/connectors/" + connectorName + "/status");
-    Map<String, Object> map = JSON.toMap(response.getResponseAsString());
+    Map<String, Object> map = doGet("/connectors/" + connectorName + "/status", MAP_READER);
 
+    if (map == null) {
+      throw new IOException("Empty status response for the connector " + connectorName);
+    }
     if (map.containsKey("error_code")) {
       throw new IOException(map.get("message").toString());
     }
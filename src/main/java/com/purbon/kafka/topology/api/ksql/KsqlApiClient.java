@@ -9,6 +9,8 @@ import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
 import com.purbon.kafka.topology.utils.JSON;
 import io.confluent.ksql.api.client.Client;
 import io.confluent.ksql.api.client.ClientOptions;
+import io.confluent.ksql.api.client.QueryInfo;
+import io.confluent.ksql.api.client.SourceDescription;
 import io.confluent.ksql.api.client.StreamInfo;
 import io.confluent.ksql.api.client.TableInfo;
 import java.io.IOException;
@@ -127,6 +129,24 @@ public class KsqlApiClient implements ArtefactClient {
         .collect(Collectors.toList());
   }
 
+  /**
+   * @param name A stream or table
+   * @return the statement that created the source, followed by the statements of the queries that
+   *     write to it, as kept by the server
+   */
+  public String sourceStatements(String name) throws IOException {
+    try {
+      SourceDescription description = client.describeSource(name).get();
+      StringBuilder sb = new StringBuilder(description.sqlStatement());
+      for (QueryInfo query : description.writeQueries()) {
+        sb.append("\n").append(query.getSql());
+      }
+      return sb.toString();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   public Collection<? extends Artefact> getClusterState() throws IOException {
     List<KsqlArtefact> ksqlArtefacts = new ArrayList<>();
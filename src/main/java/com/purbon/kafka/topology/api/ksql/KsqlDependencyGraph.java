@@ -0,0 +1,187 @@
+package com.purbon.kafka.topology.api.ksql;
+
+import com.purbon.kafka.topology.model.Artefact;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The dependencies between KSQL artefacts, a stream or table depends on the sources it reads from
+ * in its statement. Sources that are not managed artefacts, such as topics, are ignored.
+ */
+public class KsqlDependencyGraph {
+
+  private static final Logger LOGGER = LogManager.getLogger(KsqlDependencyGraph.class);
+
+  private static final String IDENTIFIER = "(`[^`]+`|\"[^\"]+\"|[A-Za-z_][A-Za-z0-9_@]*)";
+  private static final Pattern CREATE =
+      Pattern.compile(
+          "\\bCREATE\\s+(?:OR\\s+REPLACE\\s+)?(?:SOURCE\\s+)?(?:STREAM|TABLE)\\s+"
+              + "(?:IF\\s+NOT\\s+EXISTS\\s+)?"
+              + IDENTIFIER,
+          Pattern.CASE_INSENSITIVE);
+  private static final Pattern SOURCE =
+      Pattern.compile("\\b(?:FROM|JOIN)\\s+" + IDENTIFIER, Pattern.CASE_INSENSITIVE);
+  private static final Pattern IGNORED =
+      Pattern.compile("--[^\\n]*|/\\*.*?\\*/|'(?:[^']|'')*'", Pattern.DOTALL);
+
+  private final Map<String, Artefact> artefacts;
+  private final Map<String, Set<String>> dependencies;
+
+  /** @param statements The artefacts, with the content of their files or null if unknown */
+  public KsqlDependencyGraph(Map<? extends Artefact, String> statements) {
+    this.artefacts = new LinkedHashMap<>();
+    Map<String, String> statementsByName = new HashMap<>();
+    statements.forEach(
+        (artefact, sql) -> {
+          String name = sql == null ? null : createdName(sql);
+          if (name == null) {
+            name = artefact.getName().toUpperCase();
+          }
+          if (artefacts.containsKey(name)) {
+            LOGGER.warn("More than one KSQL artefact creates " + name);
+            name = name + "#" + artefacts.size();
+          }
+          artefacts.put(name, artefact);
+          statementsByName.put(name, sql);
+        });
+    this.dependencies = new HashMap<>();
+    statementsByName.forEach(
+        (name, sql) -> {
+          Set<String> sources = new LinkedHashSet<>();
+          if (sql != null) {
+            for (String source : sources(sql)) {
+              if (!source.equals(name) && artefacts.containsKey(source)) {
+                sources.add(source);
+              }
+            }
+          }
+          dependencies.put(name, sources);
+        });
+  }
+
+  /**
+   * Group the artefacts in batches of artefacts that depend on each other, ordered so every
+   * artefact comes after the ones it depends on. Different batches do not depend on each other.
+   *
+   * @return the batches, each in creation order
+   */
+  public List<List<Artefact>> createBatches() {
+    Map<String, String> roots = new HashMap<>();
+    artefacts.keySet().forEach(name -> roots.put(name, name));
+    dependencies.forEach((name, sources) -> sources.forEach(source -> union(roots, name, source)));
+
+    Map<String, List<Artefact>> batches = new LinkedHashMap<>();
+    for (String name : topologicalOrder()) {
+      batches
+          .computeIfAbsent(find(roots, name), root -> new ArrayList<>())
+          .add(artefacts.get(name));
+    }
+    return new ArrayList<>(batches.values());
+  }
+
+  /** @return the artefacts ordered so every artefact comes before the ones it depends on */
+  public List<Artefact> dropOrder() {
+    List<Artefact> order = new ArrayList<>();
+    topologicalOrder().forEach(name -> order.add(artefacts.get(name)));
+    Collections.reverse(order);
+    return order;
+  }
+
+  private List<String> topologicalOrder() {
+    Map<String, Integer> pending = new HashMap<>();
+    Map<String, List<String>> dependants = new HashMap<>();
+    dependencies.forEach(
+        (name, sources) -> {
+          pending.put(name, sources.size());
+          sources.forEach(
+              source -> dependants.computeIfAbsent(source, k -> new ArrayList<>()).add(name));
+        });
+
+    PriorityQueue<String> ready = new PriorityQueue<>(Comparator.naturalOrder());
+    pending.forEach(
+        (name, count) -> {
+          if (count == 0) {
+            ready.add(name);
+          }
+        });
+
+    List<String> order = new ArrayList<>();
+    Set<String> visited = new HashSet<>();
+    while (!ready.isEmpty()) {
+      String name = ready.poll();
+      order.add(name);
+      visited.add(name);
+      for (String dependant : dependants.getOrDefault(name, Collections.emptyList())) {
+        if (pending.merge(dependant, -1, Integer::sum) == 0) {
+          ready.add(dependant);
+        }
+      }
+    }
+
+    if (order.size() < artefacts.size()) {
+      List<String> cyclic = new ArrayList<>();
+      artefacts.keySet().stream().filter(name -> !visited.contains(name)).forEach(cyclic::add);
+      Collections.sort(cyclic);
+      LOGGER.warn("Cyclic dependencies found between the KSQL artefacts " + cyclic);
+      order.addAll(cyclic);
+    }
+    return order;
+  }
+
+  private static void union(Map<String, String> roots, String a, String b) {
+    String rootA = find(roots, a);
+    String rootB = find(roots, b);
+    if (!rootA.equals(rootB)) {
+      roots.put(rootA, rootB);
+    }
+  }
+
+  private static String find(Map<String, String> roots, String name) {
+    String root = name;
+    while (!roots.get(root).equals(root)) {
+      root = roots.get(root);
+    }
+    return root;
+  }
+
+  /** @return the name of the stream or table created by the statement, or null if there is none */
+  static String createdName(String sql) {
+    Matcher matcher = CREATE.matcher(strip(sql));
+    return matcher.find() ? identifier(matcher.group(1)) : null;
+  }
+
+  /** @return the names of the streams and tables the statement reads from */
+  static Set<String> sources(String sql) {
+    Set<String> sources = new LinkedHashSet<>();
+    Matcher matcher = SOURCE.matcher(strip(sql));
+    while (matcher.find()) {
+      sources.add(identifier(matcher.group(1)));
+    }
+    return sources;
+  }
+
+  private static String strip(String sql) {
+    return IGNORED.matcher(sql).replaceAll(" ");
+  }
+
+  /** Quoted identifiers keep their case, KSQL turns the other ones to upper case. */
+  private static String identifier(String identifier) {
+    if (identifier.startsWith("`") || identifier.startsWith("\"")) {
+      return identifier.substring(1, identifier.length() - 1);
+    }
+    return identifier.toUpperCase();
+  }
+}
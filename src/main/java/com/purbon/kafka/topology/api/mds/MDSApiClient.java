@@ -4,15 +4,18 @@ import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_NAME;
 import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_PATTERN_TYPE;
 import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_TYPE;
 
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.clients.JulieHttpClient;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.roles.rbac.ClusterLevelRoleBuilder;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.kafka.common.resource.ResourceType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,12 +24,21 @@ public class MDSApiClient extends JulieHttpClient {
 
   private static final Logger LOGGER = LogManager.getLogger(MDSApiClient.class);
 
+  private static final ObjectReader NAMES_READER = JSON.listReader(String.class);
+  private static final ObjectReader RESOURCES_READER = JSON.listReader(RbacResourceType.class);
+
   private AuthenticationCredentials authenticationCredentials;
   private final ClusterIDs clusterIDs;
+  private final Map<String, CompletableFuture<?>> inFlightLookups;
 
   public MDSApiClient(String mdsServer) {
-    super(mdsServer);
+    this(mdsServer, new Configuration());
+  }
+
+  public MDSApiClient(String mdsServer, Configuration config) {
+    super(mdsServer, config);
     this.clusterIDs = new ClusterIDs();
+    this.inFlightLookups = new ConcurrentHashMap<>();
   }
 
   public AuthenticationCredentials getCredentials() {
@@ -71,25 +83,42 @@ public class MDSApiClient extends JulieHttpClient {
   }
 
   public void bindRequest(TopologyAclBinding binding) throws IOException {
+    try {
+      doPost(bindUrl(binding), bindEntity(binding));
+    } catch (IOException e) {
+      LOGGER.error(e);
+      throw e;
+    }
+  }
 
+  /**
+   * Send a bind request without waiting for the response. The binding scope can hold several
+   * resource patterns, that MDS binds to the principal and role in a single request.
+   *
+   * @param binding The binding, with the scope to bind
+   * @return the response body once the request completes
+   */
+  public CompletableFuture<String> bindRequestAsync(TopologyAclBinding binding) {
+    return doPostAsync(bindUrl(binding), bindEntity(binding));
+  }
+
+  private String bindUrl(TopologyAclBinding binding) {
     String url = binding.getPrincipal() + "/roles/" + binding.getOperation();
     if (!binding.getResourceType().equals(ResourceType.CLUSTER.name())) {
       url = url + "/bindings";
     }
+    return "/security/1.0/principals/" + url;
+  }
 
-    try {
-      String jsonEntity;
-      if (binding.getResourceType().equals(ResourceType.CLUSTER.name())) {
-        jsonEntity = binding.getScope().clustersAsJson();
-      } else {
-        jsonEntity = binding.getScope().asJson();
-      }
-      LOGGER.debug("bind.entity: " + jsonEntity);
-      doPost("/security/1.0/principals/" + url, jsonEntity);
-    } catch (IOException e) {
-      LOGGER.error(e);
-      throw e;
+  private String bindEntity(TopologyAclBinding binding) {
+    String jsonEntity;
+    if (binding.getResourceType().equals(ResourceType.CLUSTER.name())) {
+      jsonEntity = binding.getScope().clustersAsJson();
+    } else {
+      jsonEntity = binding.getScope().asJson();
     }
+    LOGGER.debug("bind.entity: " + jsonEntity);
+    return jsonEntity;
   }
 
   public TopologyAclBinding bind(
@@ -151,18 +180,20 @@ public class MDSApiClient extends JulieHttpClient {
 
   public List<String> lookupKafkaPrincipalsByRole(
       String role, Map<String, Map<String, String>> clusters) {
-    List<String> users = new ArrayList<>();
-
     try {
       String url = "/security/1.0/lookup/role/" + role;
-      String response = doPost(url, JSON.asString(clusters));
-      if (!response.isEmpty()) {
-        users = JSON.toArray(response);
-      }
+      List<String> users = doPost(url, JSON.asString(clusters), true, NAMES_READER);
+      return users != null ? users : new ArrayList<>();
     } catch (IOException ex) {
       LOGGER.error(ex);
+      return new ArrayList<>();
     }
-    return users;
+  }
+
+  public CompletableFuture<List<String>> lookupKafkaPrincipalsByRoleForKafkaAsync(String role) {
+    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().asMap();
+    String url = "/security/1.0/lookup/role/" + role;
+    return lookupAsync(url, clusters, NAMES_READER);
   }
 
   public List<String> lookupRoles(String principal) {
@@ -170,18 +201,14 @@ public class MDSApiClient extends JulieHttpClient {
   }
 
   public List<String> lookupRoles(String principal, Map<String, Map<String, String>> clusters) {
-    List<String> roles = new ArrayList<>();
     try {
       String url = "/security/1.0/lookup/principals/" + principal + "/roleNames";
-      String response = doPost(url, JSON.asString(clusters));
-      if (!response.isEmpty()) {
-        roles = JSON.toArray(response);
-      }
+      List<String> roles = doPost(url, JSON.asString(clusters), true, NAMES_READER);
+      return roles != null ? roles : new ArrayList<>();
     } catch (IOException e) {
       LOGGER.error(e);
+      return new ArrayList<>();
     }
-
-    return roles;
   }
 
   public List<RbacResourceType> lookupResourcesForKafka(String principal, String role) {
@@ -201,27 +228,67 @@ public class MDSApiClient extends JulieHttpClient {
 
   public List<RbacResourceType> lookupResources(
       String principal, String role, Map<String, Map<String, String>> clusters) {
-    List<RbacResourceType> resources = new ArrayList<>();
     try {
       String url = "/security/1.0/principals/" + principal + "/roles/" + role + "/resources";
-      String response = doPost(url, JSON.asString(clusters));
-      if (!response.isEmpty()) {
-        resources = (List<RbacResourceType>) JSON.toObjectList(response, RbacResourceType.class);
-      }
+      List<RbacResourceType> resources =
+          doPost(url, JSON.asString(clusters), true, RESOURCES_READER);
+      return resources != null ? resources : new ArrayList<>();
     } catch (IOException e) {
       LOGGER.error(e);
+      return new ArrayList<>();
     }
+  }
 
-    return resources;
+  public CompletableFuture<List<RbacResourceType>> lookupResourcesForKafkaAsync(
+      String principal, String role) {
+    Map<String, Map<String, String>> clusters = clusterIDs.forKafka().asMap();
+    String url = "/security/1.0/principals/" + principal + "/roles/" + role + "/resources";
+    return lookupAsync(url, clusters, RESOURCES_READER);
+  }
+
+  /**
+   * Send a lookup request, sharing the response with an identical request already in flight.
+   * Lookups only read, so it is safe for concurrent callers to share the same response. Failed
+   * lookups are logged and complete with an empty list.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> CompletableFuture<List<T>> lookupAsync(
+      String url, Map<String, Map<String, String>> clusters, ObjectReader reader) {
+    String body;
+    try {
+      body = JSON.asString(clusters);
+    } catch (IOException ex) {
+      LOGGER.error(ex);
+      return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    String key = url + " " + body;
+    CompletableFuture<List<T>> lookup = new CompletableFuture<>();
+    CompletableFuture<?> inFlight = inFlightLookups.putIfAbsent(key, lookup);
+    if (inFlight != null) {
+      return (CompletableFuture<List<T>>) inFlight;
+    }
+    this.<List<T>>doPostAsync(url, body, true, reader)
+        .whenComplete(
+            (response, ex) -> {
+              inFlightLookups.remove(key, lookup);
+              if (ex != null) {
+                LOGGER.error(ex);
+                lookup.complete(new ArrayList<>());
+              } else {
+                lookup.complete(response != null ? response : new ArrayList<>());
+              }
+            });
+    return lookup;
   }
 
   public List<String> getRoleNames() {
     List<String> roles = new ArrayList<>();
     try {
       String url = "/security/1.0/roleNames";
-      Response response = doGet(url);
-      String[] myRoles = (String[]) JSON.toObject(response.getResponseAsString(), String[].class);
-      roles = Arrays.asList(myRoles);
+      List<String> roleNames = doGet(url, NAMES_READER);
+      if (roleNames != null) {
+        roles = roleNames;
+      }
     } catch (IOException e) {
       LOGGER.error(e);
     }
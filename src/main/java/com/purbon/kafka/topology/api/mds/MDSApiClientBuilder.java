@@ -17,7 +17,7 @@ public class MDSApiClientBuilder {
   public MDSApiClient build() {
     String mdsServer = config.getMdsServer();
 
-    MDSApiClient apiClient = new MDSApiClient(mdsServer);
+    MDSApiClient apiClient = new MDSApiClient(mdsServer, config);
     // Pass Cluster IDS
     apiClient.setKafkaClusterId(config.getKafkaClusterId());
     apiClient.setSchemaRegistryClusterID(config.getSchemaRegistryClusterId());
@@ -3,10 +3,9 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.BackendController.Mode;
-import com.purbon.kafka.topology.utils.JSON;
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.FileWriter;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -18,12 +17,19 @@ public class FileBackend extends AbstractBackend {
 
   private static final Logger LOGGER = LogManager.getLogger(FileBackend.class);
 
-  // Use FileWriter instead of RandomAccessFile due to
+  // Use FileOutputStream instead of RandomAccessFile due to
   // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=4715154
-  private FileWriter writer;
+  private FileOutputStream writer;
+  private StateFormat format;
 
   public FileBackend() {
     this.writer = null;
+    this.format = new StateFormat();
+  }
+
+  @Override
+  public void configure(Configuration config) {
+    this.format = StateFormat.from(config);
   }
 
   @Override
@@ -35,7 +41,7 @@ public class FileBackend extends AbstractBackend {
   public void createOrOpen(Mode mode) {
     try {
       if (this.writer != null) writer.close();
-      this.writer = new FileWriter(STATE_FILE_NAME, !Mode.TRUNCATE.equals(mode));
+      this.writer = new FileOutputStream(STATE_FILE_NAME, !Mode.TRUNCATE.equals(mode));
     } catch (IOException e) {
       LOGGER.error(e);
     }
@@ -43,7 +49,7 @@ public class FileBackend extends AbstractBackend {
 
   @Override
   public void save(BackendState state) throws IOException {
-    writeLine(state.asJson());
+    write(format.encode(state));
   }
 
   @Override
@@ -52,16 +58,12 @@ public class FileBackend extends AbstractBackend {
     if (Files.size(filePath) == 0) { // if we are loading when there is no file or is empty.
       return new BackendState();
     }
-    try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
-      String backendStateAsJsonString = reader.readLine();
-      return (BackendState) JSON.toObject(backendStateAsJsonString, BackendState.class);
-    }
+    return format.decode(Files.readAllBytes(filePath));
   }
 
-  private void writeLine(String line) throws IOException {
+  private void write(byte[] content) throws IOException {
     try {
-      writer.write(line);
-      writer.write("\n");
+      writer.write(content);
     } catch (IOException e) {
       LOGGER.error(e);
       throw e;
@@ -4,10 +4,9 @@ import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.google.cloud.storage.*;
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,6 +16,21 @@ public class GCPBackend extends AbstractBackend {
 
   private Storage storage;
   private Configuration config;
+  private StateFormat format;
+  private StateCache cache;
+  // Generation of the state object as last read or written, 0 if it does not exist, null if
+  // unknown.
+  private Long generation;
+  private String contentHash;
+
+  public GCPBackend() {
+    this(null);
+  }
+
+  // Visible and used for tests
+  public GCPBackend(Storage storage) {
+    this.storage = storage;
+  }
 
   @Override
   public void configure(Configuration config) {
@@ -25,19 +39,48 @@ public class GCPBackend extends AbstractBackend {
 
   public void configure(Configuration config, URI endpoint) {
     this.config = config;
-    this.storage =
-        StorageOptions.newBuilder().setProjectId(config.getGCPProjectId()).build().getService();
+    this.format = StateFormat.from(config);
+    this.cache = StateCache.from(config);
+    if (storage == null) {
+      this.storage =
+          StorageOptions.newBuilder().setProjectId(config.getGCPProjectId()).build().getService();
+    }
   }
 
   @Override
   public void save(BackendState state) throws IOException {
+    byte[] content = format.encode(state);
+    String hash = StateCache.hash(content);
+    if (hash.equals(contentHash)) {
+      LOGGER.debug("The state did not change, skipping the upload");
+      return;
+    }
+    // Only overwrite the state if nobody else changed it since it was loaded.
     BlobId blobId = BlobId.of(config.getGCPBucket(), STATE_FILE_NAME);
+    Storage.BlobTargetOption precondition = null;
+    if (generation != null && generation == 0) {
+      precondition = Storage.BlobTargetOption.doesNotExist();
+    } else if (generation != null) {
+      blobId = BlobId.of(config.getGCPBucket(), STATE_FILE_NAME, generation);
+      precondition = Storage.BlobTargetOption.generationMatch();
+    }
     BlobInfo blobInfo = BlobInfo.newBuilder(blobId).build();
     try {
-      storage.create(
-          blobInfo,
-          state.asJson().getBytes(StandardCharsets.UTF_8),
-          Storage.BlobTargetOption.detectContentType());
+      Blob blob =
+          precondition == null
+              ? storage.create(blobInfo, content, Storage.BlobTargetOption.detectContentType())
+              : storage.create(
+                  blobInfo, content, Storage.BlobTargetOption.detectContentType(), precondition);
+      generation = blob.getGeneration();
+      contentHash = hash;
+      cache.put(cacheName(), String.valueOf(generation), content);
+    } catch (StorageException ex) {
+      LOGGER.error(ex);
+      if (ex.getCode() == 412) {
+        throw new IOException(
+            "The state was changed by another process since it was loaded, please run again", ex);
+      }
+      throw new IOException(ex);
     } catch (Exception ex) {
       LOGGER.error(ex);
       throw new IOException(ex);
@@ -47,15 +90,37 @@ public class GCPBackend extends AbstractBackend {
   @Override
   public BackendState load() throws IOException {
     try {
-      Blob blob = storage.get(BlobId.of(config.getGCPBucket(), STATE_FILE_NAME));
-      String contentJson = new String(blob.getContent(), StandardCharsets.UTF_8);
-      return (BackendState) JSON.toObject(contentJson, BackendState.class);
+      BlobId blobId = BlobId.of(config.getGCPBucket(), STATE_FILE_NAME);
+      Blob blob = storage.get(blobId, Storage.BlobGetOption.fields(Storage.BlobField.GENERATION));
+      if (blob == null) {
+        generation = 0L;
+        return new BackendState();
+      }
+      StateCache.Entry cached = cache.get(cacheName());
+      String tag = String.valueOf(blob.getGeneration());
+      byte[] content;
+      if (cached != null && cached.getTag().equals(tag)) {
+        LOGGER.debug("The state did not change, using the local copy");
+        content = cached.getContent();
+      } else {
+        content =
+            storage.readAllBytes(
+                BlobId.of(config.getGCPBucket(), STATE_FILE_NAME, blob.getGeneration()));
+        cache.put(cacheName(), tag, content);
+      }
+      generation = blob.getGeneration();
+      contentHash = StateCache.hash(content);
+      return format.decode(content);
     } catch (Exception ex) {
       LOGGER.error(ex);
       throw new IOException(ex);
     }
   }
 
+  private String cacheName() {
+    return "gcp-" + config.getGCPBucket() + "-" + STATE_FILE_NAME;
+  }
+
   @Override
   public void close() {
     // empty
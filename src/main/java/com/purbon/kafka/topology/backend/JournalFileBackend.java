@@ -0,0 +1,238 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * File backend that keeps a snapshot of the state plus a journal of the changes made since then.
+ * Each save only appends the delta against the last known state, and nothing if the state did not
+ * change. After a number of journal entries the snapshot is rewritten in the background.
+ *
+ * <p>The snapshot uses the same format as {@link FileBackend}, so an existing state file is read as
+ * is. Every journal entry is a single JSON line with a checksum, written with a synchronous append,
+ * and the snapshot is replaced with an atomic rename. A write interrupted by a crash can only leave
+ * a torn last line in the journal, which is dropped on load.
+ */
+public class JournalFileBackend extends AbstractBackend {
+
+  private static final Logger LOGGER = LogManager.getLogger(JournalFileBackend.class);
+
+  static final String JOURNAL_FILE_SUFFIX = ".journal";
+  private static final String SNAPSHOT_TMP_SUFFIX = ".tmp";
+
+  private final Path snapshotPath;
+  private final Path journalPath;
+  private int compactionThreshold;
+  private StateFormat format;
+
+  private BackendState journaledState;
+  private int journalEntries;
+  private ExecutorService compactionExecutor;
+
+  public JournalFileBackend() {
+    this(Paths.get(STATE_FILE_NAME), 100);
+  }
+
+  public JournalFileBackend(Path snapshotPath, int compactionThreshold) {
+    this.snapshotPath = snapshotPath;
+    this.journalPath = Paths.get(snapshotPath.toString() + JOURNAL_FILE_SUFFIX);
+    this.compactionThreshold = compactionThreshold;
+    this.format = new StateFormat();
+    this.journaledState = null;
+    this.journalEntries = 0;
+  }
+
+  @Override
+  public void configure(Configuration config) {
+    this.compactionThreshold = config.getStateJournalCompactionThreshold();
+    this.format = StateFormat.from(config);
+  }
+
+  @Override
+  public synchronized BackendState load() throws IOException {
+    BackendState state = readSnapshot();
+    journalEntries = replayJournal(state);
+    journaledState = copy(state);
+    return state;
+  }
+
+  @Override
+  public synchronized void save(BackendState state) throws IOException {
+    if (journaledState == null) {
+      load();
+    }
+    StateDelta delta = StateDelta.between(journaledState, state);
+    if (delta.isEmpty()) {
+      LOGGER.debug("No state changes to write to the journal");
+      return;
+    }
+    Files.write(
+        journalPath,
+        entry(JSON.asString(delta)),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND,
+        StandardOpenOption.DSYNC);
+    journaledState = copy(state);
+    journalEntries++;
+
+    if (journalEntries >= compactionThreshold) {
+      if (compactionExecutor == null) {
+        compactionExecutor = Executors.newSingleThreadExecutor();
+      }
+      compactionExecutor.submit(this::compact);
+    }
+  }
+
+  /** Wait for a running compaction, so it is not lost when the process ends. */
+  @Override
+  public void close() {
+    ExecutorService executor;
+    synchronized (this) {
+      executor = compactionExecutor;
+      compactionExecutor = null;
+    }
+    if (executor != null) {
+      executor.shutdown();
+      try {
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  /** Write the state known at this point as the new snapshot and empty the journal. */
+  private synchronized void compact() {
+    if (journalEntries == 0) {
+      return;
+    }
+    Path tmpPath = Paths.get(snapshotPath.toString() + SNAPSHOT_TMP_SUFFIX);
+    try {
+      Files.write(
+          tmpPath,
+          format.encode(journaledState),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.DSYNC);
+      Files.move(
+          tmpPath,
+          snapshotPath,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      // A crash before this point replays entries already in the new snapshot, which is harmless.
+      truncateJournal(0);
+      journalEntries = 0;
+      LOGGER.debug(String.format("Compacted the state journal into %s", snapshotPath));
+    } catch (IOException e) {
+      LOGGER.error("Failed to compact the state journal, it will be retried on the next save", e);
+    }
+  }
+
+  private BackendState readSnapshot() throws IOException {
+    if (!Files.exists(snapshotPath) || Files.size(snapshotPath) == 0) {
+      return new BackendState();
+    }
+    return format.decode(Files.readAllBytes(snapshotPath));
+  }
+
+  private int replayJournal(BackendState state) throws IOException {
+    if (!Files.exists(journalPath)) {
+      return 0;
+    }
+    byte[] bytes = Files.readAllBytes(journalPath);
+    int entries = 0;
+    int offset = 0;
+    while (offset < bytes.length) {
+      int end = indexOf(bytes, (byte) '\n', offset);
+      String line =
+          end < 0 ? null : new String(bytes, offset, end - offset, StandardCharsets.UTF_8);
+      StateDelta delta = line == null ? null : parseEntry(line);
+      if (delta == null) {
+        if (end >= 0 && end + 1 < bytes.length) {
+          throw new IOException(
+              String.format("Corrupted entry at offset %d of the state journal", offset));
+        }
+        LOGGER.warn(
+            String.format("Dropping the incomplete last entry of the state journal at %d", offset));
+        truncateJournal(offset);
+        break;
+      }
+      delta.applyTo(state);
+      entries++;
+      offset = end + 1;
+    }
+    return entries;
+  }
+
+  private StateDelta parseEntry(String line) {
+    int separator = line.indexOf(' ');
+    if (separator < 0) {
+      return null;
+    }
+    String json = line.substring(separator + 1);
+    if (!line.substring(0, separator).equals(checksum(json))) {
+      return null;
+    }
+    try {
+      return (StateDelta) JSON.toObject(json, StateDelta.class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private void truncateJournal(long size) throws IOException {
+    try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+      channel.truncate(size);
+      channel.force(true);
+    }
+  }
+
+  private static byte[] entry(String json) {
+    return (checksum(json) + " " + json + "\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String checksum(String json) {
+    CRC32 crc = new CRC32();
+    crc.update(json.getBytes(StandardCharsets.UTF_8));
+    return Long.toHexString(crc.getValue());
+  }
+
+  private static int indexOf(byte[] bytes, byte value, int from) {
+    for (int i = from; i < bytes.length; i++) {
+      if (bytes[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static BackendState copy(BackendState state) {
+    BackendState copy = new BackendState();
+    copy.addBindings(state.getBindings());
+    copy.addAccounts(state.getAccounts());
+    copy.addTopics(state.getTopics());
+    copy.addConnectors(state.getConnectors());
+    copy.addKSqlStreams(state.getKSqlStreams());
+    copy.addKSqlTables(state.getKSqlTables());
+    return copy;
+  }
+}
@@ -1,22 +1,59 @@
 package com.purbon.kafka.topology.backend;
 
 import com.purbon.kafka.topology.BackendController.Mode;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import redis.clients.jedis.Jedis;
-
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Keeps each part of the state in its own Redis set. Loading reads all the sets in a single
+ * pipeline, and saving only sends the members added or removed since the last load, wrapped in a
+ * MULTI transaction within a pipeline, so both take a single round trip.
+ */
 public class RedisBackend extends AbstractBackend {
 
   private static final Logger LOGGER = LogManager.getLogger(RedisBackend.class);
 
   static final String JULIE_OPS_BINDINGS = "julie.ops.bindings";
+  static final String JULIE_OPS_TOPICS = "julie.ops.topics";
+  static final String JULIE_OPS_ACCOUNTS = "julie.ops.accounts";
+  static final String JULIE_OPS_CONNECTORS = "julie.ops.connectors";
+  static final String JULIE_OPS_KSQL_STREAMS = "julie.ops.ksql.streams";
+  static final String JULIE_OPS_KSQL_TABLES = "julie.ops.ksql.tables";
   static final String JULIE_OPS_TYPE = "julie.ops.type";
 
+  private static final String[] STATE_KEYS = {
+    JULIE_OPS_BINDINGS,
+    JULIE_OPS_TOPICS,
+    JULIE_OPS_ACCOUNTS,
+    JULIE_OPS_CONNECTORS,
+    JULIE_OPS_KSQL_STREAMS,
+    JULIE_OPS_KSQL_TABLES
+  };
+
   private Jedis jedis;
+  private Mode mode;
+  // The members stored in Redis as of the last load or save, null if unknown.
+  private Map<String, Set<String>> storedMembers;
 
   public RedisBackend(String host, int port) {
     this(new Jedis(host, port));
@@ -24,6 +61,8 @@ public class RedisBackend extends AbstractBackend {
 
   public RedisBackend(Jedis jedis) {
     this.jedis = jedis;
+    this.mode = Mode.APPEND;
+    this.storedMembers = null;
   }
 
   @Override
@@ -34,10 +73,7 @@ public class RedisBackend extends AbstractBackend {
   @Override
   public void createOrOpen(Mode mode) {
     jedis.connect();
-    if (mode.equals(Mode.TRUNCATE)) {
-      jedis.del(JULIE_OPS_TYPE);
-      jedis.del(JULIE_OPS_BINDINGS);
-    }
+    this.mode = mode;
   }
 
   @Override
@@ -46,40 +82,123 @@ public class RedisBackend extends AbstractBackend {
   }
 
   @Override
-  public void save(BackendState state) {
-    saveBindings(state.getBindings());
-  }
-
-  private void saveBindings(Set<TopologyAclBinding> bindings) {
-
-    String[] members =
-        bindings.stream().map(TopologyAclBinding::toString).toArray(size -> new String[size]);
+  public void save(BackendState state) throws IOException {
+    connectIfNeed();
+    Map<String, Set<String>> members = members(state);
+    boolean truncate = Mode.TRUNCATE.equals(mode);
+    try {
+      Pipeline pipeline = jedis.pipelined();
+      pipeline.multi();
+      if (truncate && storedMembers == null) {
+        List<String> keys = new ArrayList<>(Arrays.asList(STATE_KEYS));
+        keys.add(JULIE_OPS_TYPE);
+        pipeline.del(keys.toArray(new String[0]));
+      }
+      for (String key : STATE_KEYS) {
+        Set<String> stored =
+            storedMembers == null ? Collections.<String>emptySet() : storedMembers.get(key);
+        String[] added = difference(members.get(key), stored);
+        if (added.length > 0) {
+          pipeline.sadd(key, added);
+        }
+        String[] removed = difference(stored, members.get(key));
+        if (truncate && removed.length > 0) {
+          pipeline.srem(key, removed);
+        }
+      }
+      Response<List<Object>> result = pipeline.exec();
+      pipeline.sync();
+      result.get();
+    } catch (JedisException ex) {
+      LOGGER.error(ex);
+      throw new IOException(ex);
+    }
 
-    jedis.sadd(JULIE_OPS_BINDINGS, members);
+    if (truncate) {
+      storedMembers = members;
+    } else if (storedMembers != null) {
+      storedMembers.forEach((key, stored) -> stored.addAll(members.get(key)));
+    }
   }
 
   @Override
   public BackendState load() throws IOException {
+    connectIfNeed();
+    Map<String, Set<String>> members = new HashMap<>();
+    try {
+      Pipeline pipeline = jedis.pipelined();
+      Map<String, Response<Set<String>>> responses = new HashMap<>();
+      for (String key : STATE_KEYS) {
+        responses.put(key, pipeline.smembers(key));
+      }
+      pipeline.sync();
+      for (String key : STATE_KEYS) {
+        Set<String> keyMembers = responses.get(key).get();
+        members.put(key, keyMembers == null ? new HashSet<>() : new HashSet<>(keyMembers));
+      }
+    } catch (JedisException ex) {
+      LOGGER.error(ex);
+      throw new IOException(ex);
+    }
+
     BackendState state = new BackendState();
-    state.addBindings(loadBindings());
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    for (String member : members.get(JULIE_OPS_BINDINGS)) {
+      bindings.add(buildBinding(member));
+    }
+    state.addBindings(bindings);
+    state.addTopics(members.get(JULIE_OPS_TOPICS));
+    state.addAccounts(fromJson(members.get(JULIE_OPS_ACCOUNTS), ServiceAccount.class));
+    state.addConnectors(fromJson(members.get(JULIE_OPS_CONNECTORS), KafkaConnectArtefact.class));
+    state.addKSqlStreams(fromJson(members.get(JULIE_OPS_KSQL_STREAMS), KsqlStreamArtefact.class));
+    state.addKSqlTables(fromJson(members.get(JULIE_OPS_KSQL_TABLES), KsqlTableArtefact.class));
+    storedMembers = members;
     return state;
   }
 
-  private Set<TopologyAclBinding> loadBindings() throws IOException {
-    connectIfNeed();
-    Set<TopologyAclBinding> bindings = new HashSet<>();
-    long count = jedis.scard(JULIE_OPS_BINDINGS);
-    for (long i = 0; i < count; i++) {
-      String elem = jedis.spop(JULIE_OPS_BINDINGS);
-      TopologyAclBinding binding = buildAclBinding(elem);
-      bindings.add(binding);
+  private Map<String, Set<String>> members(BackendState state) throws IOException {
+    Map<String, Set<String>> members = new HashMap<>();
+    members.put(JULIE_OPS_BINDINGS, asJson(state.getBindings()));
+    members.put(JULIE_OPS_TOPICS, new HashSet<>(state.getTopics()));
+    members.put(JULIE_OPS_ACCOUNTS, asJson(state.getAccounts()));
+    members.put(JULIE_OPS_CONNECTORS, asJson(state.getConnectors()));
+    members.put(JULIE_OPS_KSQL_STREAMS, asJson(state.getKSqlStreams()));
+    members.put(JULIE_OPS_KSQL_TABLES, asJson(state.getKSqlTables()));
+    return members;
+  }
+
+  /** Bindings are stored as JSON, older versions stored them in their string form. */
+  private TopologyAclBinding buildBinding(String member) throws IOException {
+    if (member.startsWith("{")) {
+      return (TopologyAclBinding) JSON.toObject(member, TopologyAclBinding.class);
+    }
+    return buildAclBinding(member);
+  }
+
+  private static Set<String> asJson(Collection<?> items) throws IOException {
+    Set<String> members = new HashSet<>();
+    for (Object item : items) {
+      members.add(JSON.asString(item));
+    }
+    return members;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> fromJson(Set<String> members, Class<T> clazz) throws IOException {
+    List<T> items = new ArrayList<>();
+    for (String member : members) {
+      items.add((T) JSON.toObject(member, clazz));
     }
-    return bindings;
+    return items;
+  }
+
+  private static String[] difference(Set<String> a, Set<String> b) {
+    return a.stream().filter(member -> !b.contains(member)).toArray(String[]::new);
   }
 
   private void connectIfNeed() {
     if (!jedis.isConnected()) {
-      createOrOpen();
+      jedis.connect();
     }
   }
 }
@@ -3,10 +3,9 @@ package com.purbon.kafka.topology.backend;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.Configuration;
-import com.purbon.kafka.topology.utils.JSON;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
@@ -23,6 +22,19 @@ public class S3Backend extends AbstractBackend {
 
   private S3Client s3;
   private Configuration config;
+  private StateFormat format;
+  private StateCache cache;
+  // Hash of the state content as last read or written, to skip uploading it unchanged.
+  private String contentHash;
+
+  public S3Backend() {
+    this(null);
+  }
+
+  // Visible and used for tests
+  public S3Backend(S3Client s3) {
+    this.s3 = s3;
+  }
 
   @Override
   public void configure(Configuration config) {
@@ -32,26 +44,39 @@ public class S3Backend extends AbstractBackend {
   // Visible and used for tests
   public void configure(Configuration config, URI endpoint, boolean anonymous) {
     this.config = config;
-    S3ClientBuilder builder = S3Client.builder().region(Region.of(config.getS3Region()));
-    if (endpoint != null) {
-      builder = builder.endpointOverride(endpoint);
+    this.format = StateFormat.from(config);
+    this.cache = StateCache.from(config);
+    if (s3 == null) {
+      S3ClientBuilder builder = S3Client.builder().region(Region.of(config.getS3Region()));
+      if (endpoint != null) {
+        builder = builder.endpointOverride(endpoint);
+      }
+      if (anonymous) {
+        builder = builder.credentialsProvider(AnonymousCredentialsProvider.create());
+      }
+      this.s3 = builder.build();
     }
-    if (anonymous) {
-      builder = builder.credentialsProvider(AnonymousCredentialsProvider.create());
-    }
-    this.s3 = builder.build();
   }
 
   @Override
   public void save(BackendState state) throws IOException {
-    flushRemoteStateContent(state.asJson(), STATE_FILE_NAME);
+    byte[] content = format.encode(state);
+    String hash = StateCache.hash(content);
+    if (hash.equals(contentHash)) {
+      LOGGER.debug("The state did not change, skipping the upload");
+      return;
+    }
+    String eTag = flushRemoteStateContent(content, STATE_FILE_NAME);
+    cache.put(cacheName(STATE_FILE_NAME), eTag, content);
+    contentHash = hash;
   }
 
   @Override
   public BackendState load() {
     try {
-      String content = getRemoteStateContent(STATE_FILE_NAME);
-      return (BackendState) JSON.toObject(content, BackendState.class);
+      byte[] content = getRemoteStateContent(STATE_FILE_NAME);
+      contentHash = StateCache.hash(content);
+      return format.decode(content);
     } catch (IOException ex) {
       LOGGER.debug(ex);
       return new BackendState();
@@ -63,25 +88,38 @@ public class S3Backend extends AbstractBackend {
     s3.close();
   }
 
-  private String getRemoteStateContent(String key) throws IOException {
-    GetObjectRequest request =
-        GetObjectRequest.builder().key(key).bucket(config.getS3Bucket()).build();
+  private byte[] getRemoteStateContent(String key) throws IOException {
+    StateCache.Entry cached = cache.get(cacheName(key));
+    GetObjectRequest.Builder request =
+        GetObjectRequest.builder().key(key).bucket(config.getS3Bucket());
+    if (cached != null) {
+      request = request.ifNoneMatch(cached.getTag());
+    }
 
     try {
-      ResponseBytes<GetObjectResponse> objectBytes = s3.getObjectAsBytes(request);
-      return objectBytes.asString(StandardCharsets.UTF_8);
+      ResponseBytes<GetObjectResponse> objectBytes = s3.getObjectAsBytes(request.build());
+      byte[] content = objectBytes.asByteArray();
+      cache.put(cacheName(key), objectBytes.response().eTag(), content);
+      return content;
     } catch (S3Exception ex) {
+      if (cached != null && ex.statusCode() == 304) {
+        LOGGER.debug(String.format("The state at %s did not change, using the local copy", key));
+        return cached.getContent();
+      }
       LOGGER.error(ex);
       throw new IOException(ex);
     }
   }
 
-  private String flushRemoteStateContent(String content, String key) throws IOException {
+  private String cacheName(String key) {
+    return "s3-" + config.getS3Bucket() + "-" + key;
+  }
+
+  private String flushRemoteStateContent(byte[] content, String key) throws IOException {
     PutObjectRequest request =
         PutObjectRequest.builder().bucket(config.getS3Bucket()).key(key).build();
     try {
-      PutObjectResponse response =
-          s3.putObject(request, RequestBody.fromString(content, StandardCharsets.UTF_8));
+      PutObjectResponse response = s3.putObject(request, RequestBody.fromBytes(content));
       return response.eTag();
     } catch (S3Exception ex) {
       LOGGER.error(ex);
@@ -0,0 +1,109 @@
+package com.purbon.kafka.topology.backend;
+
+import com.purbon.kafka.topology.Configuration;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Local copy of the state stored in a remote backend, together with the tag (an ETag or a
+ * generation) of the remote object it was read from. Remote backends use it to avoid downloading
+ * the state again when it did not change since the last run.
+ */
+public class StateCache {
+
+  private final Path directory;
+
+  public StateCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /** The cache in the configured directory, or a disabled one if no directory is set. */
+  public static StateCache from(Configuration config) {
+    String dir = config.getStateCacheDir();
+    return new StateCache(dir.isEmpty() ? null : Paths.get(dir));
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * @param name the remote object name
+   * @return the cached entry, or null if there is none
+   */
+  public Entry get(String name) throws IOException {
+    if (!isEnabled()) {
+      return null;
+    }
+    Path path = pathFor(name);
+    if (!Files.exists(path)) {
+      return null;
+    }
+    byte[] bytes = Files.readAllBytes(path);
+    int end = 0;
+    while (end < bytes.length && bytes[end] != '\n') {
+      end++;
+    }
+    if (end == bytes.length) {
+      return null;
+    }
+    String tag = new String(bytes, 0, end, StandardCharsets.UTF_8);
+    return new Entry(tag, Arrays.copyOfRange(bytes, end + 1, bytes.length));
+  }
+
+  public void put(String name, String tag, byte[] content) throws IOException {
+    if (!isEnabled() || tag == null) {
+      return;
+    }
+    Files.createDirectories(directory);
+    Path path = pathFor(name);
+    Path tmpPath = Paths.get(path + ".tmp");
+    byte[] header = (tag + "\n").getBytes(StandardCharsets.UTF_8);
+    byte[] bytes = Arrays.copyOf(header, header.length + content.length);
+    System.arraycopy(content, 0, bytes, header.length, content.length);
+    Files.write(tmpPath, bytes);
+    Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  public static String hash(byte[] content) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private Path pathFor(String name) {
+    return directory.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_"));
+  }
+
+  public static class Entry {
+    private final String tag;
+    private final byte[] content;
+
+    public Entry(String tag, byte[] content) {
+      this.tag = tag;
+      this.content = content;
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+  }
+}
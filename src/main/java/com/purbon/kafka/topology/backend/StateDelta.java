@@ -0,0 +1,86 @@
+package com.purbon.kafka.topology.backend;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.HashSet;
+import java.util.Set;
+
+/** The items added to and removed from a {@link BackendState} between two saves. */
+public class StateDelta {
+
+  private final BackendState added;
+  private final BackendState removed;
+
+  @JsonCreator
+  public StateDelta(
+      @JsonProperty("added") BackendState added, @JsonProperty("removed") BackendState removed) {
+    this.added = added;
+    this.removed = removed;
+  }
+
+  public static StateDelta between(BackendState previous, BackendState current) {
+    BackendState added = new BackendState();
+    added.addBindings(difference(current.getBindings(), previous.getBindings()));
+    added.addAccounts(difference(current.getAccounts(), previous.getAccounts()));
+    added.addTopics(difference(current.getTopics(), previous.getTopics()));
+    added.addConnectors(difference(current.getConnectors(), previous.getConnectors()));
+    added.addKSqlStreams(difference(current.getKSqlStreams(), previous.getKSqlStreams()));
+    added.addKSqlTables(difference(current.getKSqlTables(), previous.getKSqlTables()));
+
+    BackendState removed = new BackendState();
+    removed.addBindings(difference(previous.getBindings(), current.getBindings()));
+    removed.addAccounts(difference(previous.getAccounts(), current.getAccounts()));
+    removed.addTopics(difference(previous.getTopics(), current.getTopics()));
+    removed.addConnectors(difference(previous.getConnectors(), current.getConnectors()));
+    removed.addKSqlStreams(difference(previous.getKSqlStreams(), current.getKSqlStreams()));
+    removed.addKSqlTables(difference(previous.getKSqlTables(), current.getKSqlTables()));
+
+    return new StateDelta(added, removed);
+  }
+
+  /**
+   * Apply this delta to a state. Applying the same sequence of deltas again leaves the state
+   * unchanged, as the last delta touching an item decides if it is present.
+   *
+   * @param state the state to update
+   */
+  public void applyTo(BackendState state) {
+    state.getBindings().removeAll(removed.getBindings());
+    state.getAccounts().removeAll(removed.getAccounts());
+    state.getTopics().removeAll(removed.getTopics());
+    state.getConnectors().removeAll(removed.getConnectors());
+    state.getKSqlStreams().removeAll(removed.getKSqlStreams());
+    state.getKSqlTables().removeAll(removed.getKSqlTables());
+
+    state.addBindings(added.getBindings());
+    state.addAccounts(added.getAccounts());
+    state.addTopics(added.getTopics());
+    state.addConnectors(added.getConnectors());
+    state.addKSqlStreams(added.getKSqlStreams());
+    state.addKSqlTables(added.getKSqlTables());
+  }
+
+  public BackendState getAdded() {
+    return added;
+  }
+
+  public BackendState getRemoved() {
+    return removed;
+  }
+
+  @JsonIgnore
+  public boolean isEmpty() {
+    return added.size() == 0 && removed.size() == 0;
+  }
+
+  private static <T> Set<T> difference(Set<T> a, Set<T> b) {
+    Set<T> result = new HashSet<>();
+    for (T item : a) {
+      if (!b.contains(item)) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,233 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import com.purbon.kafka.topology.api.mds.RequestScope;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Length prefixed binary encoding of the state. Every string is stored once in a dictionary at the
+ * start of the content and referenced by index, as principals, hosts, operations and resource names
+ * repeat across many bindings.
+ */
+public class BinaryStateCodec implements StateCodec {
+
+  public static final String NAME = "binary";
+
+  @Override
+  public byte id() {
+    return 2;
+  }
+
+  @Override
+  public byte[] encode(BackendState state) throws IOException {
+    Dictionary dictionary = new Dictionary();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(body);
+
+    writeVarInt(out, state.getBindings().size());
+    for (TopologyAclBinding binding : state.getBindings()) {
+      dictionary.write(out, binding.getResourceType());
+      dictionary.write(out, binding.getResourceName());
+      dictionary.write(out, binding.getHost());
+      dictionary.write(out, binding.getOperation());
+      dictionary.write(out, binding.getPrincipal());
+      dictionary.write(out, binding.getPattern());
+      dictionary.write(out, binding.getScope() == null ? null : JSON.asString(binding.getScope()));
+    }
+
+    writeVarInt(out, state.getAccounts().size());
+    for (ServiceAccount account : state.getAccounts()) {
+      out.writeInt(account.getId());
+      dictionary.write(out, account.getName());
+      dictionary.write(out, account.getDescription());
+      dictionary.write(out, account.getResourceId());
+    }
+
+    writeVarInt(out, state.getTopics().size());
+    for (String topic : state.getTopics()) {
+      dictionary.write(out, topic);
+    }
+
+    writeArtefacts(out, dictionary, state.getConnectors());
+    writeArtefacts(out, dictionary, state.getKSqlStreams());
+    writeArtefacts(out, dictionary, state.getKSqlTables());
+    out.flush();
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    DataOutputStream contentOut = new DataOutputStream(content);
+    dictionary.writeTo(contentOut);
+    body.writeTo(contentOut);
+    contentOut.flush();
+    return content.toByteArray();
+  }
+
+  @Override
+  public BackendState decode(byte[] content) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+    List<String> dictionary = readDictionary(in);
+    BackendState state = new BackendState();
+
+    int bindings = readVarInt(in);
+    Set<TopologyAclBinding> bindingSet = new HashSet<>(bindings * 2);
+    for (int i = 0; i < bindings; i++) {
+      TopologyAclBinding binding =
+          new TopologyAclBinding(
+              read(in, dictionary),
+              read(in, dictionary),
+              read(in, dictionary),
+              read(in, dictionary),
+              read(in, dictionary),
+              read(in, dictionary));
+      String scope = read(in, dictionary);
+      if (scope != null) {
+        binding.setScope((RequestScope) JSON.toObject(scope, RequestScope.class));
+      }
+      bindingSet.add(binding);
+    }
+    state.addBindings(bindingSet);
+
+    int accounts = readVarInt(in);
+    List<ServiceAccount> accountList = new ArrayList<>(accounts);
+    for (int i = 0; i < accounts; i++) {
+      accountList.add(
+          new ServiceAccount(
+              in.readInt(), read(in, dictionary), read(in, dictionary), read(in, dictionary)));
+    }
+    state.addAccounts(accountList);
+
+    int topics = readVarInt(in);
+    List<String> topicList = new ArrayList<>(topics);
+    for (int i = 0; i < topics; i++) {
+      topicList.add(read(in, dictionary));
+    }
+    state.addTopics(topicList);
+
+    List<KafkaConnectArtefact> connectors = new ArrayList<>();
+    int size = readVarInt(in);
+    for (int i = 0; i < size; i++) {
+      connectors.add(
+          new KafkaConnectArtefact(
+              read(in, dictionary), read(in, dictionary), read(in, dictionary)));
+    }
+    state.addConnectors(connectors);
+
+    List<KsqlStreamArtefact> streams = new ArrayList<>();
+    size = readVarInt(in);
+    for (int i = 0; i < size; i++) {
+      streams.add(
+          new KsqlStreamArtefact(read(in, dictionary), read(in, dictionary), read(in, dictionary)));
+    }
+    state.addKSqlStreams(streams);
+
+    List<KsqlTableArtefact> tables = new ArrayList<>();
+    size = readVarInt(in);
+    for (int i = 0; i < size; i++) {
+      tables.add(
+          new KsqlTableArtefact(read(in, dictionary), read(in, dictionary), read(in, dictionary)));
+    }
+    state.addKSqlTables(tables);
+
+    return state;
+  }
+
+  private void writeArtefacts(
+      DataOutputStream out, Dictionary dictionary, Collection<? extends Artefact> artefacts)
+      throws IOException {
+    writeVarInt(out, artefacts.size());
+    for (Artefact artefact : artefacts) {
+      dictionary.write(out, artefact.getPath());
+      dictionary.write(out, artefact.getServerLabel());
+      dictionary.write(out, artefact.getName());
+    }
+  }
+
+  private List<String> readDictionary(DataInputStream in) throws IOException {
+    int size = readVarInt(in);
+    List<String> dictionary = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] bytes = new byte[readVarInt(in)];
+      in.readFully(bytes);
+      dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+    return dictionary;
+  }
+
+  private String read(DataInputStream in, List<String> dictionary) throws IOException {
+    int index = readVarInt(in);
+    if (index == 0) {
+      return null;
+    }
+    if (index > dictionary.size()) {
+      throw new IOException("Invalid string reference " + index + " in the state content");
+    }
+    return dictionary.get(index - 1);
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed length in the state content");
+  }
+
+  /** Strings in order of first use. Index 0 is kept for null. */
+  private static class Dictionary {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private void write(DataOutputStream out, String value) throws IOException {
+      if (value == null) {
+        writeVarInt(out, 0);
+        return;
+      }
+      Integer index = indexes.get(value);
+      if (index == null) {
+        strings.add(value);
+        index = strings.size();
+        indexes.put(value, index);
+      }
+      writeVarInt(out, index);
+    }
+
+    private void writeTo(DataOutputStream out) throws IOException {
+      writeVarInt(out, strings.size());
+      for (String value : strings) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonStateCodec implements StateCodec {
+
+  public static final String NAME = "json";
+
+  @Override
+  public byte id() {
+    return 1;
+  }
+
+  @Override
+  public byte[] encode(BackendState state) throws IOException {
+    return state.asJson().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public BackendState decode(byte[] content) throws IOException {
+    String json = new String(content, StandardCharsets.UTF_8);
+    int end = json.indexOf('\n');
+    return (BackendState)
+        JSON.toObject(end < 0 ? json : json.substring(0, end), BackendState.class);
+  }
+}
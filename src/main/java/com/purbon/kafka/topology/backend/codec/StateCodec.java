@@ -0,0 +1,15 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import com.purbon.kafka.topology.backend.BackendState;
+import java.io.IOException;
+
+/** Encodes the backend state into bytes and back. */
+public interface StateCodec {
+
+  /** Identifier written in the format header, unique per codec. */
+  byte id();
+
+  byte[] encode(BackendState state) throws IOException;
+
+  BackendState decode(byte[] content) throws IOException;
+}
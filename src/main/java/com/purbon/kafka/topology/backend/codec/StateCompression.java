@@ -0,0 +1,51 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public enum StateCompression {
+  NONE((byte) 0),
+  GZIP((byte) 1);
+
+  private final byte id;
+
+  StateCompression(byte id) {
+    this.id = id;
+  }
+
+  public byte id() {
+    return id;
+  }
+
+  public static StateCompression of(byte id) throws IOException {
+    for (StateCompression compression : values()) {
+      if (compression.id == id) {
+        return compression;
+      }
+    }
+    throw new IOException("Unknown compression " + id + " in the state header");
+  }
+
+  byte[] compress(byte[] content) throws IOException {
+    if (this == NONE) {
+      return content;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(content);
+    }
+    return out.toByteArray();
+  }
+
+  byte[] decompress(byte[] content) throws IOException {
+    if (this == NONE) {
+      return content;
+    }
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      return gzip.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.BackendState;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The stored representation of the backend state: a codec plus an optional compression, announced
+ * by a header so the content can be decoded without knowing the configuration it was written with.
+ *
+ * <p>Plain JSON without compression is written without a header, exactly as the state was stored
+ * before, and content without a header is always read as JSON. This way existing state files load
+ * as is, and are written in the configured format on the next save.
+ */
+public class StateFormat {
+
+  static final byte[] MAGIC = {'J', 'S', 'T', 'F'};
+  static final byte VERSION = 1;
+  private static final int HEADER_SIZE = MAGIC.length + 3;
+
+  private static final List<StateCodec> CODECS =
+      Arrays.asList(new JsonStateCodec(), new BinaryStateCodec());
+
+  private final StateCodec codec;
+  private final StateCompression compression;
+
+  public StateFormat() {
+    this(new JsonStateCodec(), StateCompression.NONE);
+  }
+
+  public StateFormat(StateCodec codec, StateCompression compression) {
+    this.codec = codec;
+    this.compression = compression;
+  }
+
+  public static StateFormat from(Configuration config) {
+    StateCodec codec;
+    switch (config.getStateCodec().toLowerCase(Locale.ROOT)) {
+      case JsonStateCodec.NAME:
+        codec = new JsonStateCodec();
+        break;
+      case BinaryStateCodec.NAME:
+        codec = new BinaryStateCodec();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown state codec " + config.getStateCodec());
+    }
+    StateCompression compression =
+        StateCompression.valueOf(config.getStateCompression().toUpperCase(Locale.ROOT));
+    return new StateFormat(codec, compression);
+  }
+
+  public byte[] encode(BackendState state) throws IOException {
+    if (codec instanceof JsonStateCodec && compression == StateCompression.NONE) {
+      return (state.asJson() + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+    byte[] payload = compression.compress(codec.encode(state));
+    byte[] content = new byte[HEADER_SIZE + payload.length];
+    System.arraycopy(MAGIC, 0, content, 0, MAGIC.length);
+    content[MAGIC.length] = VERSION;
+    content[MAGIC.length + 1] = codec.id();
+    content[MAGIC.length + 2] = compression.id();
+    System.arraycopy(payload, 0, content, HEADER_SIZE, payload.length);
+    return content;
+  }
+
+  public BackendState decode(byte[] content) throws IOException {
+    if (!hasHeader(content)) {
+      return new JsonStateCodec().decode(content);
+    }
+    byte version = content[MAGIC.length];
+    if (version != VERSION) {
+      throw new IOException("Unsupported state format version " + version);
+    }
+    StateCodec contentCodec = codecFor(content[MAGIC.length + 1]);
+    StateCompression contentCompression = StateCompression.of(content[MAGIC.length + 2]);
+    byte[] payload = Arrays.copyOfRange(content, HEADER_SIZE, content.length);
+    return contentCodec.decode(contentCompression.decompress(payload));
+  }
+
+  private StateCodec codecFor(byte id) throws IOException {
+    if (codec.id() == id) {
+      return codec;
+    }
+    for (StateCodec candidate : CODECS) {
+      if (candidate.id() == id) {
+        return candidate;
+      }
+    }
+    throw new IOException("Unknown state codec " + id + " in the state header");
+  }
+
+  private static boolean hasHeader(byte[] content) {
+    if (content.length < HEADER_SIZE) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (content[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -12,6 +12,16 @@ public interface ArtefactClient {
 
   Map<String, Object> add(String content) throws IOException;
 
+  /**
+   * Update an existing artefact with the given content.
+   *
+   * @param label The artefact name
+   * @param content The artefact content, as in its file
+   */
+  default void update(String label, String content) throws IOException {
+    throw new IOException("Not implemented");
+  }
+
   default void delete(String label) throws IOException {
     throw new IOException("Not implemented");
   }
@@ -23,4 +33,6 @@ public interface ArtefactClient {
   List<String> list() throws IOException;
 
   Collection<? extends Artefact> getClusterState() throws IOException;
+
+  default void close() {}
 }
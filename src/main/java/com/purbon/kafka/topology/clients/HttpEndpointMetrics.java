@@ -0,0 +1,50 @@
+package com.purbon.kafka.topology.clients;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Counters for the requests sent to one endpoint of a server. */
+public class HttpEndpointMetrics {
+
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong retries = new AtomicLong();
+  private final AtomicLong totalTimeNanos = new AtomicLong();
+
+  void recordAttempt(long elapsedNanos, boolean failed) {
+    requests.incrementAndGet();
+    totalTimeNanos.addAndGet(elapsedNanos);
+    if (failed) {
+      failures.incrementAndGet();
+    }
+  }
+
+  void recordRetry() {
+    retries.incrementAndGet();
+  }
+
+  /** @return the number of requests sent, retries included */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /** @return the number of requests that failed or returned an error status */
+  public long getFailures() {
+    return failures.get();
+  }
+
+  public long getRetries() {
+    return retries.get();
+  }
+
+  public double getAverageTimeMs() {
+    long count = requests.get();
+    return count == 0 ? 0 : totalTimeNanos.get() / 1e6 / count;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "requests=%d, failures=%d, retries=%d, avgTimeMs=%.1f",
+        getRequests(), getFailures(), getRetries(), getAverageTimeMs());
+  }
+}
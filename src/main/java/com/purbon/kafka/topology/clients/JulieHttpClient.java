@@ -3,31 +3,105 @@ package com.purbon.kafka.topology.clients;
 import static java.net.http.HttpRequest.BodyPublishers.noBody;
 import static java.net.http.HttpRequest.BodyPublishers.ofString;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.mds.Response;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Base for the clients of the HTTP APIs of the platform. Every request is sent asynchronously, with
+ * a limit of requests in flight to the server. Requests with an idempotent verb are retried with an
+ * exponential backoff when the connection fails or the server answers with 429 or a 5xx status.
+ *
+ * <p>JSON responses can be read with an {@link ObjectReader}, that parses the body from the
+ * response stream as it arrives instead of buffering it as a string first. The parsing blocks while
+ * the body arrives, so it runs on a pool of its own with one thread per request in flight, and the
+ * request counts as in flight until its body is parsed.
+ */
 public abstract class JulieHttpClient {
 
   private static final Logger LOGGER = LogManager.getLogger(JulieHttpClient.class);
 
-  private final long DEFAULT_TIMEOUT_MS = 60000;
+  private static final long MAX_RETRY_BACKOFF_MS = 10000;
 
-  private final HttpClient httpClient = HttpClient.newBuilder().build();
+  /** Path segments followed by a parameter, as in /connectors/{name}/tasks/{id}/status */
+  private static final Set<String> PARAMETER_PARENTS =
+      Set.of("connectors", "connector-plugins", "tasks");
+
+  private final HttpClient httpClient;
+  private final RequestLimiter limiter;
+  private final ExecutorService bodyReaders;
+  private final Map<String, HttpEndpointMetrics> metrics;
+  private final long requestTimeoutMs;
+  private final int maxRetries;
+  private final long retryBackoffMs;
   protected final String server;
   private String token;
 
   public JulieHttpClient(String server) {
+    this(server, new Configuration());
+  }
+
+  public JulieHttpClient(String server, Configuration config) {
     this.server = server;
     this.token = "";
+    this.httpClient =
+        HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(config.getHttpConnectTimeoutMs()))
+            .build();
+    this.limiter = new RequestLimiter(config.getHttpMaxInFlight());
+    this.bodyReaders = bodyReaders(Math.max(1, config.getHttpMaxInFlight()));
+    this.metrics = new ConcurrentHashMap<>();
+    this.requestTimeoutMs = config.getHttpRequestTimeoutMs();
+    this.maxRetries = config.getHttpRetries();
+    this.retryBackoffMs = config.getHttpRetryBackoffMs();
+  }
+
+  /** Idle threads stop after a while, so the pool does not need to be shut down. */
+  private static ExecutorService bodyReaders(int size) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            size,
+            size,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "julie-http-body-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   private HttpRequest.Builder setupARequest(String url, String token, long timeoutMs) {
@@ -36,6 +110,13 @@ public abstract class JulieHttpClient {
             .timeout(Duration.ofMillis(timeoutMs))
             .header("accept", " application/json")
             .header("Content-Type", "application/json");
+    // HTTP/2 is negotiated during the TLS handshake, plain connections stay on HTTP/1.1 to avoid
+    // the upgrade request that some servers do not handle.
+    if (server.startsWith("https")) {
+      builder = builder.version(HttpClient.Version.HTTP_2);
+    } else {
+      builder = builder.version(HttpClient.Version.HTTP_1_1);
+    }
     if (!token.isBlank()) {
       builder = builder.header("Authorization", "Basic " + token);
     }
@@ -47,8 +128,22 @@ public abstract class JulieHttpClient {
     this.token = Base64.getEncoder().encodeToString(userAndPassword.getBytes());
   }
 
+  /** @return the metrics of the requests sent so far, by endpoint */
+  public Map<String, HttpEndpointMetrics> getMetrics() {
+    return Collections.unmodifiableMap(metrics);
+  }
+
+  /** Log a summary of the requests sent, by endpoint, and release the body reader threads. */
+  public void close() {
+    new TreeMap<>(metrics)
+        .forEach(
+            (endpoint, endpointMetrics) ->
+                LOGGER.info("{} {}: {}", server, endpoint, endpointMetrics));
+    bodyReaders.shutdown();
+  }
+
   protected Response doGet(String url) throws IOException {
-    HttpRequest request = getRequest(url, token, DEFAULT_TIMEOUT_MS);
+    HttpRequest request = getRequest(url, token, requestTimeoutMs);
     return doGet(request);
   }
 
@@ -57,21 +152,58 @@ public abstract class JulieHttpClient {
   }
 
   private Response doGet(HttpRequest request) throws IOException {
-    LOGGER.debug("method: " + request.method() + " request.uri: " + request.uri());
-    try {
-      HttpResponse<String> response =
-          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-      LOGGER.debug("method: " + request.method() + " response: " + response);
-      return new Response(response);
-    } catch (Exception ex) {
-      throw new IOException(ex);
-    }
+    return new Response(join(send(request, true, BodyHandlers.ofString())));
+  }
+
+  /**
+   * @param url The url to get, relative to the server
+   * @param reader The reader for the expected JSON document
+   * @return the document, or null if the response has no body
+   */
+  protected <T> T doGet(String url, ObjectReader reader) throws IOException {
+    HttpRequest request = getRequest(url, token, requestTimeoutMs);
+    return join(doRequestAsync(request, true, reader));
   }
 
   protected String doPost(String url, String body) throws IOException {
     LOGGER.debug("doPost: " + url + " body: " + body);
-    HttpRequest request = postRequest(url, body, token, DEFAULT_TIMEOUT_MS);
-    return doRequest(request);
+    HttpRequest request = postRequest(url, body, token, requestTimeoutMs);
+    return doRequest(request, false);
+  }
+
+  protected CompletableFuture<String> doPostAsync(String url, String body) {
+    return doPostAsync(url, body, false);
+  }
+
+  /**
+   * @param url The url to post to, relative to the server
+   * @param body The request body
+   * @param idempotent If the request only reads, or can be repeated safely, so it can be retried
+   * @return the response body once the request completes
+   */
+  protected CompletableFuture<String> doPostAsync(String url, String body, boolean idempotent) {
+    LOGGER.debug("doPostAsync: " + url + " body: " + body);
+    HttpRequest request = postRequest(url, body, token, requestTimeoutMs);
+    return doRequestAsync(request, idempotent);
+  }
+
+  protected <T> T doPost(String url, String body, boolean idempotent, ObjectReader reader)
+      throws IOException {
+    return join(doPostAsync(url, body, idempotent, reader));
+  }
+
+  /**
+   * @param url The url to post to, relative to the server
+   * @param body The request body
+   * @param idempotent If the request only reads, or can be repeated safely, so it can be retried
+   * @param reader The reader for the expected JSON document
+   * @return the document once the request completes, or null if the response has no body
+   */
+  protected <T> CompletableFuture<T> doPostAsync(
+      String url, String body, boolean idempotent, ObjectReader reader) {
+    LOGGER.debug("doPostAsync: " + url + " body: " + body);
+    HttpRequest request = postRequest(url, body, token, requestTimeoutMs);
+    return doRequestAsync(request, idempotent, reader);
   }
 
   private HttpRequest postRequest(String url, String body, String token, long timeoutMs) {
@@ -80,8 +212,14 @@ public abstract class JulieHttpClient {
 
   protected void doPut(String url) throws IOException {
     LOGGER.debug("doPut: " + url);
-    HttpRequest request = putRequest(url, token, DEFAULT_TIMEOUT_MS);
-    doRequest(request);
+    HttpRequest request = putRequest(url, token, requestTimeoutMs);
+    doRequest(request, true);
+  }
+
+  protected String doPut(String url, String body) throws IOException {
+    LOGGER.debug("doPut: " + url + " body: " + body);
+    HttpRequest request = setupARequest(url, token, requestTimeoutMs).PUT(ofString(body)).build();
+    return doRequest(request, true);
   }
 
   private HttpRequest putRequest(String url, String token, long timeoutMs) {
@@ -90,8 +228,8 @@ public abstract class JulieHttpClient {
 
   protected void doDelete(String url, String body) throws IOException {
     LOGGER.debug("doDelete: " + url + " body: " + body);
-    HttpRequest request = deleteRequest(url, body, token, DEFAULT_TIMEOUT_MS);
-    doRequest(request);
+    HttpRequest request = deleteRequest(url, body, token, requestTimeoutMs);
+    doRequest(request, true);
   }
 
   private HttpRequest deleteRequest(String url, String body, String token, long timeoutMs) {
@@ -101,29 +239,176 @@ public abstract class JulieHttpClient {
     return builder.build();
   }
 
-  private String doRequest(HttpRequest request) throws IOException {
-    LOGGER.debug("method: " + request.method() + " request.uri: " + request.uri());
-    String result = "";
-    try {
-      HttpResponse<String> response =
-          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-      LOGGER.debug("method: " + request.method() + " response: " + response);
-      int statusCode = response.statusCode();
-      if (statusCode < 200 || statusCode > 299) {
-        String body = response.body() != null ? response.body() : "";
-        throw new IOException(
-            "Something happened with the connection, response status code: "
-                + statusCode
-                + " body: "
-                + body);
+  private String doRequest(HttpRequest request, boolean idempotent) throws IOException {
+    return join(doRequestAsync(request, idempotent));
+  }
+
+  private CompletableFuture<String> doRequestAsync(HttpRequest request, boolean idempotent) {
+    return send(request, idempotent, BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              try {
+                return handleResponse(request, response);
+              } catch (IOException ex) {
+                throw new CompletionException(ex);
+              }
+            });
+  }
+
+  private <T> CompletableFuture<T> doRequestAsync(
+      HttpRequest request, boolean idempotent, ObjectReader reader) {
+    return send(
+        request,
+        idempotent,
+        this.<T>jsonBodyHandler(reader),
+        response -> CompletableFuture.supplyAsync(() -> response.body().get(), bodyReaders));
+  }
+
+  private String handleResponse(HttpRequest request, HttpResponse<String> response)
+      throws IOException {
+    int statusCode = response.statusCode();
+    if (!isSuccess(statusCode)) {
+      throw statusError(statusCode, response.body());
+    }
+    return response.body() != null ? response.body() : "";
+  }
+
+  /**
+   * The response is completed as soon as its headers arrive. Successful responses are parsed from
+   * the body stream when the returned supplier is called, which blocks until the body arrives.
+   */
+  private <T> BodyHandler<Supplier<T>> jsonBodyHandler(ObjectReader reader) {
+    return responseInfo -> {
+      int statusCode = responseInfo.statusCode();
+      if (isSuccess(statusCode)) {
+        return BodySubscribers.mapping(
+            BodySubscribers.ofInputStream(), in -> () -> readJson(reader, in));
       }
+      return BodySubscribers.mapping(
+          BodySubscribers.ofString(StandardCharsets.UTF_8),
+          body ->
+              () -> {
+                throw new CompletionException(statusError(statusCode, body));
+              });
+    };
+  }
 
-      if (response.body() != null) {
-        result = response.body();
+  private static <T> T readJson(ObjectReader reader, InputStream in) {
+    try (JsonParser parser = reader.getFactory().createParser(in)) {
+      if (parser.nextToken() == null) {
+        return null;
       }
-    } catch (Exception ex) {
-      throw new IOException(ex);
+      return reader.readValue(parser);
+    } catch (IOException ex) {
+      throw new CompletionException(ex);
     }
-    return result;
+  }
+
+  private static boolean isSuccess(int statusCode) {
+    return statusCode >= 200 && statusCode <= 299;
+  }
+
+  private static IOException statusError(int statusCode, String body) {
+    return new IOException(
+        "Something happened with the connection, response status code: "
+            + statusCode
+            + " body: "
+            + (body != null ? body : ""));
+  }
+
+  private <T> CompletableFuture<HttpResponse<T>> send(
+      HttpRequest request, boolean idempotent, BodyHandler<T> bodyHandler) {
+    return send(request, idempotent, bodyHandler, CompletableFuture::completedFuture);
+  }
+
+  /**
+   * @param complete Completes the response, such as reading its body, while the request still
+   *     counts as in flight
+   */
+  private <T, R> CompletableFuture<R> send(
+      HttpRequest request,
+      boolean idempotent,
+      BodyHandler<T> bodyHandler,
+      Function<HttpResponse<T>, CompletableFuture<R>> complete) {
+    LOGGER.debug("method: " + request.method() + " request.uri: " + request.uri());
+    HttpEndpointMetrics endpointMetrics =
+        metrics.computeIfAbsent(endpoint(request), key -> new HttpEndpointMetrics());
+    int retries = idempotent ? maxRetries : 0;
+    return limiter.submit(
+        () -> attempt(request, bodyHandler, endpointMetrics, 0, retries).thenCompose(complete));
+  }
+
+  private <T> CompletableFuture<HttpResponse<T>> attempt(
+      HttpRequest request,
+      BodyHandler<T> bodyHandler,
+      HttpEndpointMetrics endpointMetrics,
+      int attempt,
+      int retries) {
+    long start = System.nanoTime();
+    return httpClient
+        .sendAsync(request, bodyHandler)
+        .handle(
+            (response, ex) -> {
+              LOGGER.debug("method: " + request.method() + " response: " + response);
+              boolean retriable = ex != null || isRetriable(response.statusCode());
+              endpointMetrics.recordAttempt(
+                  System.nanoTime() - start, ex != null || response.statusCode() >= 400);
+              if (retriable && attempt < retries) {
+                endpointMetrics.recordRetry();
+                long backoffMs = backoffMs(attempt);
+                LOGGER.debug(
+                    String.format(
+                        "Retrying %s %s in %d ms", request.method(), request.uri(), backoffMs));
+                return CompletableFuture.runAsync(
+                        () -> {},
+                        CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS))
+                    .thenCompose(
+                        v -> attempt(request, bodyHandler, endpointMetrics, attempt + 1, retries));
+              }
+              return ex != null
+                  ? CompletableFuture.<HttpResponse<T>>failedFuture(unwrap(ex))
+                  : CompletableFuture.completedFuture(response);
+            })
+        .thenCompose(future -> future);
+  }
+
+  private boolean isRetriable(int statusCode) {
+    return statusCode == 429 || statusCode >= 500;
+  }
+
+  private long backoffMs(int attempt) {
+    long backoff = Math.min(MAX_RETRY_BACKOFF_MS, retryBackoffMs << Math.min(attempt, 20));
+    return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+  }
+
+  /**
+   * The method and path of the request, with the principal names and the path parameters collapsed,
+   * so the number of endpoints does not grow with the number of connectors.
+   */
+  private String endpoint(HttpRequest request) {
+    StringBuilder sb = new StringBuilder(request.method()).append(" ");
+    String parent = "";
+    for (String segment : request.uri().getPath().split("/")) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      boolean parameter = segment.contains(":") || PARAMETER_PARENTS.contains(parent);
+      sb.append("/").append(parameter ? "*" : segment);
+      parent = segment;
+    }
+    return sb.toString();
+  }
+
+  private static <T> T join(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      Throwable cause = unwrap(ex);
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+  }
+
+  private static Throwable unwrap(Throwable ex) {
+    return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
   }
 }
@@ -0,0 +1,86 @@
+package com.purbon.kafka.topology.clients;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous requests in flight. Requests over the limit are queued and
+ * started as soon as a running one completes, without blocking the calling thread.
+ */
+public class RequestLimiter {
+
+  private final int maxInFlight;
+  private final Deque<Runnable> pending;
+  private final ThreadLocal<Boolean> draining;
+  private int inFlight;
+
+  public RequestLimiter(int maxInFlight) {
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.pending = new ArrayDeque<>();
+    this.draining = ThreadLocal.withInitial(() -> false);
+    this.inFlight = 0;
+  }
+
+  public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Runnable start =
+        () -> {
+          CompletableFuture<T> future;
+          try {
+            future = request.get();
+          } catch (RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+          }
+          future.whenComplete(
+              (value, ex) -> {
+                release();
+                if (ex != null) {
+                  result.completeExceptionally(ex);
+                } else {
+                  result.complete(value);
+                }
+              });
+        };
+    synchronized (this) {
+      pending.add(start);
+    }
+    drain();
+    return result;
+  }
+
+  private void release() {
+    synchronized (this) {
+      inFlight--;
+    }
+    drain();
+  }
+
+  /**
+   * Start the queued requests while there is room for them. Requests that complete right away call
+   * back into this method from the loop below, they only free their slot and leave the loop to
+   * start the next ones, so the stack does not grow with the number of queued requests.
+   */
+  private void drain() {
+    if (draining.get()) {
+      return;
+    }
+    draining.set(true);
+    try {
+      while (true) {
+        Runnable next;
+        synchronized (this) {
+          if (inFlight >= maxInFlight || pending.isEmpty()) {
+            return;
+          }
+          next = pending.poll();
+          inFlight++;
+        }
+        next.run();
+      }
+    } finally {
+      draining.set(false);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.purbon.kafka.topology.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Thrown by an action that failed after part of its changes were done. The execution plan still
+ * applies the effect of the action to its state, so the changes that were done are recorded.
+ */
+public class PartialFailureException extends IOException {
+
+  public PartialFailureException(String msg) {
+    super(msg);
+  }
+}
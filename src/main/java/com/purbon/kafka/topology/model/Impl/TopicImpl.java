@@ -45,6 +45,7 @@ public class TopicImpl implements Topic, Cloneable {
   private Optional<Short> replicationFactor;
 
   @JsonIgnore private String projectPrefix;
+  @JsonIgnore private String fullName;
   private static String DEFAULT_PARTITION_COUNT = "3";
   private static String DEFAULT_REPLICATION_FACTOR = "2";
 
@@ -147,9 +148,10 @@ public class TopicImpl implements Topic, Cloneable {
   }
 
   private String patternBasedTopicNameStructureString() {
-    context.put("topic", name);
-    dataType.ifPresent(s -> context.put("dataType", s));
-    return JinjaUtils.serialise(appConfig.getTopicPrefixFormat(), context);
+    Map<String, Object> topicContext = new HashMap<>(context);
+    topicContext.put("topic", name);
+    dataType.ifPresent(s -> topicContext.put("dataType", s));
+    return JinjaUtils.serialise(appConfig.getTopicPrefixFormat(), topicContext);
   }
 
   private String defaultTopicStructureString(String projectPrefix) {
@@ -163,9 +165,18 @@ public class TopicImpl implements Topic, Cloneable {
     return sb.toString();
   }
 
+  /**
+   * The full name is built once, and again only after the prefix, the prefix context or the
+   * configuration it is built with are changed.
+   */
   @Override
   public String toString() {
-    return toString(projectPrefix);
+    String result = fullName;
+    if (result == null) {
+      result = toString(projectPrefix);
+      fullName = result;
+    }
+    return result;
   }
 
   @Override
@@ -188,11 +199,13 @@ public class TopicImpl implements Topic, Cloneable {
 
   public void setDefaultProjectPrefix(String projectPrefix) {
     this.projectPrefix = projectPrefix;
+    this.fullName = null;
   }
 
   @Override
   public void setPrefixContext(Map<String, Object> properties) {
     this.context = properties;
+    this.fullName = null;
   }
 
   @Override
@@ -238,6 +251,7 @@ public class TopicImpl implements Topic, Cloneable {
 
   public void addAppConfig(Configuration appConfig) {
     this.appConfig = appConfig;
+    this.fullName = null;
   }
 
   public Map<String, String> getMetadata() {
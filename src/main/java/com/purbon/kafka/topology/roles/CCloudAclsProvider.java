@@ -4,6 +4,7 @@ import com.purbon.kafka.topology.AccessControlProvider;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import java.io.IOException;
 import java.util.*;
@@ -18,18 +19,28 @@ public class CCloudAclsProvider extends SimpleAclsProvider implements AccessCont
   private static final Logger LOGGER = LogManager.getLogger(CCloudAclsProvider.class);
 
   private final CCloudCLI cli;
+  private final ServiceAccountCache serviceAccountCache;
 
   public CCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
-    super(adminClient);
+    this(adminClient, config, new ServiceAccountCache(new CCloudCLI()));
+  }
+
+  public CCloudAclsProvider(
+      final TopologyBuilderAdminClient adminClient,
+      final Configuration config,
+      final ServiceAccountCache serviceAccountCache)
+      throws IOException {
+    super(adminClient, config);
     this.cli = new CCloudCLI();
     this.cli.setEnvironment(config.getConfluentCloudEnv());
+    this.serviceAccountCache = serviceAccountCache;
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
     try {
-      Map<String, ServiceAccount> serviceAccounts = cli.serviceAccounts();
+      Map<String, ServiceAccount> serviceAccounts = serviceAccountCache.byName();
       Set<TopologyAclBinding> ccloudBindings =
           bindings.stream()
               .map(b -> convertToConfluentCloudId(serviceAccounts, b))
@@ -43,15 +54,23 @@ public class CCloudAclsProvider extends SimpleAclsProvider implements AccessCont
   }
 
   @Override
-  public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
+  public Set<TopologyAclBinding> clearBindings(Set<TopologyAclBinding> bindings)
+      throws IOException {
     try {
-      Map<String, ServiceAccount> serviceAccounts = cli.serviceAccounts();
+      Map<String, ServiceAccount> serviceAccounts = serviceAccountCache.byName();
       Set<TopologyAclBinding> ccloudBindings =
           bindings.stream()
               .map(b -> convertToConfluentCloudId(serviceAccounts, b))
               .filter(Objects::nonNull)
               .collect(Collectors.toSet());
-      super.clearBindings(ccloudBindings);
+      Set<TopologyAclBinding> removedBindings = super.clearBindings(ccloudBindings);
+      return bindings.stream()
+          .filter(
+              b -> {
+                TopologyAclBinding ccloudBinding = convertToConfluentCloudId(serviceAccounts, b);
+                return ccloudBinding == null || removedBindings.contains(ccloudBinding);
+              })
+          .collect(Collectors.toSet());
     } catch (IOException ex) {
       LOGGER.error(ex);
       throw ex;
@@ -61,9 +80,7 @@ public class CCloudAclsProvider extends SimpleAclsProvider implements AccessCont
   @Override
   public Map<String, List<TopologyAclBinding>> listAcls() {
     try {
-      Map<Integer, ServiceAccount> serviceAccountsById =
-          cli.serviceAccounts().values().stream()
-              .collect(Collectors.toMap(ServiceAccount::getId, s -> s));
+      Map<Integer, ServiceAccount> serviceAccountsById = serviceAccountCache.byId();
       Map<String, List<TopologyAclBinding>> map = new HashMap<>();
       super.listAcls()
           .forEach(
@@ -1,15 +1,29 @@
 package com.purbon.kafka.topology.roles;
 
+import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_NAME;
+import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_PATTERN_TYPE;
+import static com.purbon.kafka.topology.api.mds.RequestScope.RESOURCE_TYPE;
+
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
 import com.purbon.kafka.topology.api.mds.RbacResourceType;
 import com.purbon.kafka.topology.api.mds.RequestScope;
+import com.purbon.kafka.topology.clients.RequestLimiter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.resource.ResourceType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,21 +31,95 @@ public class RBACProvider implements AccessControlProvider {
 
   private static final Logger LOGGER = LogManager.getLogger(RBACProvider.class);
   private final MDSApiClient apiClient;
+  private final int lookupParallelism;
+  private final int bindParallelism;
 
   public RBACProvider(MDSApiClient apiClient) {
+    this(apiClient, new Configuration());
+  }
+
+  public RBACProvider(MDSApiClient apiClient, Configuration config) {
     this.apiClient = apiClient;
+    this.lookupParallelism = config.getMdsLookupParallelism();
+    this.bindParallelism = config.getMdsBindParallelism();
   }
 
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("RBACProvider: createBindings");
+    List<TopologyAclBinding> requests = groupByPrincipalRoleAndScope(bindings);
+    LOGGER.debug(
+        String.format(
+            "Creating %d bindings with %d bind requests", bindings.size(), requests.size()));
+
+    RequestLimiter limiter = new RequestLimiter(bindParallelism);
+    List<CompletableFuture<String>> futures = new ArrayList<>();
+    for (TopologyAclBinding request : requests) {
+      futures.add(limiter.submit(() -> apiClient.bindRequestAsync(request)));
+    }
+    IOException failure = null;
+    for (CompletableFuture<String> future : futures) {
+      try {
+        future.join();
+      } catch (CompletionException ex) {
+        LOGGER.error(ex.getCause());
+        if (failure == null) {
+          failure = new IOException(ex.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Merge the resource bindings with the same principal, role and clusters into a single binding,
+   * with the resource patterns of all of them in its scope. Cluster bindings are kept as they are.
+   */
+  private List<TopologyAclBinding> groupByPrincipalRoleAndScope(Set<TopologyAclBinding> bindings) {
+    List<TopologyAclBinding> requests = new ArrayList<>();
+    Map<List<Object>, TopologyAclBinding> groups = new LinkedHashMap<>();
+    Map<List<Object>, Set<Map<String, String>>> groupResources = new HashMap<>();
     for (TopologyAclBinding binding : bindings) {
-      apiClient.bindRequest(binding);
+      RequestScope scope = binding.getScope();
+      if (scope == null || binding.getResourceType().equals(ResourceType.CLUSTER.name())) {
+        requests.add(binding);
+        continue;
+      }
+      List<Object> key =
+          Arrays.asList(binding.getPrincipal(), binding.getOperation(), scope.getScope());
+      groups.putIfAbsent(key, binding);
+      groupResources.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(scope.getResources());
     }
+
+    groups.forEach(
+        (key, binding) -> {
+          RequestScope scope = new RequestScope();
+          scope.setClusters(binding.getScope().getScope());
+          for (Map<String, String> resource : groupResources.get(key)) {
+            scope.addResource(
+                resource.get(RESOURCE_TYPE),
+                resource.get(RESOURCE_NAME),
+                resource.get(RESOURCE_PATTERN_TYPE));
+          }
+          scope.build();
+          TopologyAclBinding request =
+              new TopologyAclBinding(
+                  binding.getResourceType(),
+                  binding.getResourceName(),
+                  binding.getHost(),
+                  binding.getOperation(),
+                  binding.getPrincipal(),
+                  binding.getPattern());
+          request.setScope(scope);
+          requests.add(request);
+        });
+    return requests;
   }
 
   @Override
-  public void clearBindings(Set<TopologyAclBinding> bindings) {
+  public Set<TopologyAclBinding> clearBindings(Set<TopologyAclBinding> bindings) {
     LOGGER.debug("RBACProvider: clearAcls");
     bindings.forEach(
         aclBinding -> {
@@ -46,36 +134,69 @@ public class RBACProvider implements AccessControlProvider {
 
           apiClient.deleteRole(principal, role, scope);
         });
+    return bindings;
   }
 
+  /**
+   * Looks up the principals of every role, and the resources of every principal and role, with up
+   * to the configured number of MDS requests in flight.
+   */
   @Override
   public Map<String, List<TopologyAclBinding>> listAcls() {
-    Map<String, List<TopologyAclBinding>> map = new HashMap<>();
-    List<String> roleNames = apiClient.getRoleNames();
-    for (String roleName : roleNames) {
-      List<String> principalNames = apiClient.lookupKafkaPrincipalsByRoleForKafka(roleName);
-      for (String principalName : principalNames) {
-        List<RbacResourceType> resources =
-            apiClient.lookupResourcesForKafka(principalName, roleName);
-        for (RbacResourceType resource : resources) {
-          if (!map.containsKey(resource.getName())) {
-            map.put(resource.getName(), new ArrayList<>());
-          }
-          TopologyAclBinding binding =
-              TopologyAclBinding.build(
-                  normalize(resource.getResourceType()),
-                  resource.getName(),
-                  "*",
-                  roleName,
-                  principalName,
-                  resource.getPatternType());
-          map.get(resource.getName()).add(binding);
-        }
-      }
+    Map<String, List<TopologyAclBinding>> map = new ConcurrentHashMap<>();
+    RequestLimiter limiter = new RequestLimiter(lookupParallelism);
+    List<CompletableFuture<Void>> lookups = new ArrayList<>();
+    for (String roleName : apiClient.getRoleNames()) {
+      lookups.add(
+          limiter
+              .submit(() -> apiClient.lookupKafkaPrincipalsByRoleForKafkaAsync(roleName))
+              .thenCompose(
+                  principalNames -> lookupResources(limiter, map, roleName, principalNames)));
     }
+    CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).join();
     return map;
   }
 
+  private CompletableFuture<Void> lookupResources(
+      RequestLimiter limiter,
+      Map<String, List<TopologyAclBinding>> map,
+      String roleName,
+      List<String> principalNames) {
+    List<CompletableFuture<Void>> lookups = new ArrayList<>();
+    for (String principalName : principalNames) {
+      lookups.add(
+          limiter
+              .submit(() -> apiClient.lookupResourcesForKafkaAsync(principalName, roleName))
+              .thenAccept(resources -> addBindings(map, roleName, principalName, resources)));
+    }
+    return CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0]));
+  }
+
+  private void addBindings(
+      Map<String, List<TopologyAclBinding>> map,
+      String roleName,
+      String principalName,
+      List<RbacResourceType> resources) {
+    for (RbacResourceType resource : resources) {
+      TopologyAclBinding binding =
+          TopologyAclBinding.build(
+              normalize(resource.getResourceType()),
+              resource.getName(),
+              "*",
+              roleName,
+              principalName,
+              resource.getPatternType());
+      map.computeIfAbsent(
+              resource.getName(), name -> Collections.synchronizedList(new ArrayList<>()))
+          .add(binding);
+    }
+  }
+
+  @Override
+  public void close() {
+    apiClient.close();
+  }
+
   private String normalize(String resourceType) {
     String[] fields = resourceType.split("(?=\\p{Upper})");
     return String.join("_", fields).toUpperCase();
@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import java.io.IOException;
 import java.util.HashMap;
@@ -17,9 +18,18 @@ public class SimpleAclsProvider implements AccessControlProvider {
   private static final Logger LOGGER = LogManager.getLogger(SimpleAclsProvider.class);
 
   private final TopologyBuilderAdminClient adminClient;
+  private final int deleteBatchSize;
+  private final int deleteMaxInFlight;
 
   public SimpleAclsProvider(final TopologyBuilderAdminClient adminClient) {
+    this(adminClient, new Configuration());
+  }
+
+  public SimpleAclsProvider(
+      final TopologyBuilderAdminClient adminClient, final Configuration config) {
     this.adminClient = adminClient;
+    this.deleteBatchSize = config.getAclsDeleteBatchSize();
+    this.deleteMaxInFlight = config.getAclsDeleteMaxInFlight();
   }
 
   @Override
@@ -34,16 +44,17 @@ public class SimpleAclsProvider implements AccessControlProvider {
   }
 
   @Override
-  public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
+  public Set<TopologyAclBinding> clearBindings(Set<TopologyAclBinding> bindings)
+      throws IOException {
     LOGGER.debug("AclsProvider: clearAcls");
-    for (TopologyAclBinding binding : bindings) {
-      try {
-        adminClient.clearAcls(binding);
-      } catch (IOException ex) {
-        LOGGER.error(ex);
-        throw ex;
-      }
-    }
+    Map<TopologyAclBinding, Throwable> failures =
+        adminClient.clearAcls(bindings, deleteBatchSize, deleteMaxInFlight);
+    failures.forEach(
+        (binding, error) ->
+            LOGGER.error(String.format("Failed to delete the acl %s", binding), error));
+    return bindings.stream()
+        .filter(binding -> !failures.containsKey(binding))
+        .collect(Collectors.toSet());
   }
 
   @Override
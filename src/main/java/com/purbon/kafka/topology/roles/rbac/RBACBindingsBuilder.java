@@ -369,4 +369,9 @@ public class RBACBindingsBuilder implements BindingsBuilderProvider {
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
+
+  @Override
+  public void close() {
+    apiClient.close();
+  }
 }
@@ -0,0 +1,157 @@
+package com.purbon.kafka.topology.schemas;
+
+import com.purbon.kafka.topology.backend.StateCache;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of the schemas registered by previous runs, one per subject, together with the
+ * fingerprints of the schema files they were read from. A schema fingerprint is the hash of its
+ * format and canonical form, so formatting changes in a file do not count as a new schema. The
+ * index remembers the modification time and size of every file it fingerprinted, and is kept in the
+ * state cache between runs, so files that did not change are not read nor parsed again.
+ */
+public class SchemaFingerprintIndex {
+
+  private static final String CACHE_NAME = "schemas-fingerprint-index";
+  private static final String VERSION = "1";
+
+  private final StateCache cache;
+  private final String cacheName;
+  private final Map<String, FileEntry> files;
+  private final Map<String, String> subjects;
+  private volatile boolean changed;
+
+  /** An index that only lives as long as this instance. */
+  public SchemaFingerprintIndex() {
+    this.cache = new StateCache(null);
+    this.cacheName = CACHE_NAME;
+    this.files = new ConcurrentHashMap<>();
+    this.subjects = new ConcurrentHashMap<>();
+    this.changed = false;
+  }
+
+  /**
+   * @param cache The state cache the index is kept in
+   * @param schemaRegistryUrl The schema registry the subjects are registered in, each one has its
+   *     own index
+   */
+  public SchemaFingerprintIndex(StateCache cache, String schemaRegistryUrl) throws IOException {
+    this.cache = cache;
+    this.cacheName =
+        CACHE_NAME
+            + "-"
+            + StateCache.hash(schemaRegistryUrl.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    this.files = new ConcurrentHashMap<>();
+    this.subjects = new ConcurrentHashMap<>();
+    this.changed = false;
+    StateCache.Entry cached = cache.get(cacheName);
+    if (cached != null && VERSION.equals(cached.getTag())) {
+      String content = new String(cached.getContent(), StandardCharsets.UTF_8);
+      for (String line : content.split("\n")) {
+        if (line.startsWith("F ")) {
+          String[] fields = line.split(" ", 5);
+          if (fields.length == 5) {
+            files.put(
+                fields[4],
+                new FileEntry(Long.parseLong(fields[2]), Long.parseLong(fields[3]), fields[1]));
+          }
+        } else if (line.startsWith("S ")) {
+          String[] fields = line.split(" ", 3);
+          if (fields.length == 3) {
+            subjects.put(fields[2], fields[1]);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @param path A schema file
+   * @param format The format of the schema
+   * @return the fingerprint of the schema in the file, or null if the file changed since it was
+   *     fingerprinted
+   */
+  public String fileFingerprint(Path path, String format) throws IOException {
+    FileEntry entry = files.get(key(path, format));
+    if (entry != null
+        && entry.modified == Files.getLastModifiedTime(path).toMillis()
+        && entry.size == Files.size(path)) {
+      return entry.fingerprint;
+    }
+    return null;
+  }
+
+  public void putFileFingerprint(
+      Path path, String format, long modified, long size, String fingerprint) {
+    files.put(key(path, format), new FileEntry(modified, size, fingerprint));
+    changed = true;
+  }
+
+  /**
+   * @param subject A subject name
+   * @param fingerprint The fingerprint of the schema to register
+   * @param compatibility The compatibility to set to the subject, if any
+   * @return true if the same schema and compatibility were registered for the subject already
+   */
+  public boolean isRegistered(String subject, String fingerprint, Optional<String> compatibility) {
+    return subjectFingerprint(fingerprint, compatibility).equals(subjects.get(subject));
+  }
+
+  public void putRegistered(String subject, String fingerprint, Optional<String> compatibility) {
+    subjects.put(subject, subjectFingerprint(fingerprint, compatibility));
+    changed = true;
+  }
+
+  public static String fingerprint(String format, String canonicalSchema) {
+    return StateCache.hash((format + "\n" + canonicalSchema).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public synchronized void save() throws IOException {
+    if (!changed) {
+      return;
+    }
+    changed = false;
+    StringBuilder sb = new StringBuilder();
+    files.forEach(
+        (path, entry) ->
+            sb.append("F ")
+                .append(entry.fingerprint)
+                .append(" ")
+                .append(entry.modified)
+                .append(" ")
+                .append(entry.size)
+                .append(" ")
+                .append(path)
+                .append("\n"));
+    subjects.forEach(
+        (subject, fingerprint) ->
+            sb.append("S ").append(fingerprint).append(" ").append(subject).append("\n"));
+    cache.put(cacheName, VERSION, sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String subjectFingerprint(String fingerprint, Optional<String> compatibility) {
+    return compatibility.map(value -> fingerprint + "/" + value.toUpperCase()).orElse(fingerprint);
+  }
+
+  private static String key(Path path, String format) {
+    return format + " " + path.toAbsolutePath().normalize();
+  }
+
+  private static class FileEntry {
+    private final long modified;
+    private final long size;
+    private final String fingerprint;
+
+    private FileEntry(long modified, long size, String fingerprint) {
+      this.modified = modified;
+      this.size = size;
+      this.fingerprint = fingerprint;
+    }
+  }
+}
@@ -1,14 +1,19 @@
 package com.purbon.kafka.topology.schemas;
 
 import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -28,10 +33,23 @@ public class SchemaRegistryManager {
 
   private final SchemaRegistryClient schemaRegistryClient;
   private final String rootPath;
+  private final SchemaFingerprintIndex fingerprints;
+  private final Map<String, ParsedFile> parsedFiles;
+  private final Map<Integer, String> registryFingerprints;
 
   public SchemaRegistryManager(
       SchemaRegistryClient schemaRegistryClient, String topologyFileOrDir) {
+    this(schemaRegistryClient, topologyFileOrDir, new SchemaFingerprintIndex());
+  }
+
+  public SchemaRegistryManager(
+      SchemaRegistryClient schemaRegistryClient,
+      String topologyFileOrDir,
+      SchemaFingerprintIndex fingerprints) {
     this.schemaRegistryClient = schemaRegistryClient;
+    this.fingerprints = fingerprints;
+    this.parsedFiles = new ConcurrentHashMap<>();
+    this.registryFingerprints = new ConcurrentHashMap<>();
     this.rootPath =
         Files.isDirectory(Paths.get(topologyFileOrDir))
             ? topologyFileOrDir
@@ -50,14 +68,87 @@ public class SchemaRegistryManager {
     LOGGER.debug(
         String.format("Registering subject %s with source %s", subjectName, schemaFilePath));
     try {
-      final String schema = new String(Files.readAllBytes(schemaFilePath), StandardCharsets.UTF_8);
-      return save(subjectName, format, schema);
+      return register(subjectName, format, parse(subjectName, schemaFilePath, format).schema);
     } catch (Exception e) {
       throw new SchemaRegistryManagerException(
           "Failed to parse the schema file " + schemaFilePath, e);
     }
   }
 
+  /**
+   * @return true if a previous run registered the same schema and compatibility for the subject,
+   *     according to the fingerprint index
+   */
+  public boolean isRegistered(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    try {
+      return fingerprints.isRegistered(
+          subjectName, fingerprint(subjectName, schemaFile, format), compatibility);
+    } catch (Exception e) {
+      LOGGER.debug(String.format("Failed to fingerprint the schema file %s", schemaFile), e);
+      return false;
+    }
+  }
+
+  /**
+   * Confirm against the registry that the schema in the file and the compatibility are the latest
+   * ones of the subject, it could have been deleted or changed by others since it was registered,
+   * or the registry rebuilt at the same address.
+   *
+   * @return true if the registry has the same latest schema and compatibility for the subject
+   */
+  public boolean isLatest(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    try {
+      String fingerprint = fingerprint(subjectName, schemaFile, format);
+      SchemaMetadata latest = schemaRegistryClient.getLatestSchemaMetadata(subjectName);
+      String schemaType = latest.getSchemaType() == null ? AvroSchema.TYPE : latest.getSchemaType();
+      if (!schemaType.equalsIgnoreCase(format)) {
+        return false;
+      }
+      String latestFingerprint =
+          registryFingerprints.computeIfAbsent(
+              latest.getId(),
+              id ->
+                  SchemaFingerprintIndex.fingerprint(
+                      format,
+                      parseSchema(subjectName, schemaType, latest.getSchema()).canonicalString()));
+      if (!latestFingerprint.equals(fingerprint)) {
+        return false;
+      }
+      return compatibility.isEmpty()
+          || compatibility
+              .get()
+              .equalsIgnoreCase(schemaRegistryClient.getCompatibility(subjectName));
+    } catch (Exception e) {
+      LOGGER.debug(String.format("Failed to find the latest schema of subject %s", subjectName), e);
+      return false;
+    }
+  }
+
+  private String fingerprint(String subjectName, String schemaFile, String format)
+      throws IOException {
+    Path path = schemaFilePath(schemaFile);
+    String fingerprint = fingerprints.fileFingerprint(path, format);
+    return fingerprint != null ? fingerprint : parse(subjectName, path, format).fingerprint;
+  }
+
+  /** Remember the schema and compatibility registered for the subject, for the next runs. */
+  public void registered(
+      String subjectName, String schemaFile, String format, Optional<String> compatibility) {
+    try {
+      Path path = schemaFilePath(schemaFile);
+      fingerprints.putRegistered(
+          subjectName, parse(subjectName, path, format).fingerprint, compatibility);
+    } catch (Exception e) {
+      LOGGER.debug(String.format("Failed to fingerprint the schema file %s", schemaFile), e);
+    }
+  }
+
+  public void saveFingerprints() throws IOException {
+    fingerprints.save();
+  }
+
   public String setCompatibility(String subject, String compatibility) {
     try {
       return schemaRegistryClient.updateCompatibility(subject, compatibility);
@@ -79,19 +170,45 @@ public class SchemaRegistryManager {
   }
 
   protected int save(String subjectName, String schemaType, String schemaString) {
+    return register(subjectName, schemaType, parseSchema(subjectName, schemaType, schemaString));
+  }
+
+  /** Read and parse the schema file, unless it was parsed already and did not change since. */
+  private ParsedFile parse(String subjectName, Path path, String format) throws IOException {
+    String key = format + " " + path.toAbsolutePath().normalize();
+    long modified = Files.getLastModifiedTime(path).toMillis();
+    long size = Files.size(path);
+    ParsedFile parsed = parsedFiles.get(key);
+    if (parsed == null || parsed.modified != modified || parsed.size != size) {
+      String schemaString = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+      ParsedSchema schema = parseSchema(subjectName, format, schemaString);
+      parsed =
+          new ParsedFile(
+              modified,
+              size,
+              schema,
+              SchemaFingerprintIndex.fingerprint(format, schema.canonicalString()));
+      parsedFiles.put(key, parsed);
+      fingerprints.putFileFingerprint(path, format, modified, size, parsed.fingerprint);
+    }
+    return parsed;
+  }
+
+  private ParsedSchema parseSchema(String subjectName, String schemaType, String schemaString) {
     final Optional<ParsedSchema> maybeSchema =
         schemaRegistryClient.parseSchema(schemaType, schemaString, Collections.emptyList());
 
-    final ParsedSchema parsedSchema =
-        maybeSchema.orElseThrow(
-            () -> {
-              final String msg =
-                  String.format(
-                      "Failed to parse the schema for subject '%s' of type '%s'",
-                      subjectName, schemaType);
-              return new SchemaRegistryManagerException(msg);
-            });
+    return maybeSchema.orElseThrow(
+        () -> {
+          final String msg =
+              String.format(
+                  "Failed to parse the schema for subject '%s' of type '%s'",
+                  subjectName, schemaType);
+          return new SchemaRegistryManagerException(msg);
+        });
+  }
 
+  private int register(String subjectName, String schemaType, ParsedSchema parsedSchema) {
     try {
       return schemaRegistryClient.register(subjectName, parsedSchema);
     } catch (Exception e) {
@@ -102,4 +219,18 @@ public class SchemaRegistryManager {
       throw new SchemaRegistryManagerException(msg, e);
     }
   }
+
+  private static class ParsedFile {
+    private final long modified;
+    private final long size;
+    private final ParsedSchema schema;
+    private final String fingerprint;
+
+    private ParsedFile(long modified, long size, ParsedSchema schema, String fingerprint) {
+      this.modified = modified;
+      this.size = size;
+      this.schema = schema;
+      this.fingerprint = fingerprint;
+    }
+  }
 }
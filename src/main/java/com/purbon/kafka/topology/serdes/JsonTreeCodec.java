@@ -0,0 +1,206 @@
+package com.purbon.kafka.topology.serdes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a JSON tree. Every string, field names included, is stored once in a
+ * dictionary at the start of the content and referenced by index, as the same keys repeat across
+ * every topic and user of a descriptor.
+ */
+class JsonTreeCodec {
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte DOUBLE = 5;
+  private static final byte BIG_INTEGER = 6;
+  private static final byte DECIMAL = 7;
+  private static final byte STRING = 8;
+  private static final byte ARRAY = 9;
+  private static final byte OBJECT = 10;
+
+  private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+  private JsonTreeCodec() {}
+
+  static byte[] encode(JsonNode node) throws IOException {
+    Dictionary dictionary = new Dictionary();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(body);
+    write(out, dictionary, node);
+    out.flush();
+
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    DataOutputStream contentOut = new DataOutputStream(content);
+    dictionary.writeTo(contentOut);
+    body.writeTo(contentOut);
+    contentOut.flush();
+    return content.toByteArray();
+  }
+
+  static JsonNode decode(byte[] content) throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+    int size = readVarInt(in);
+    List<String> strings = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      byte[] bytes = new byte[readVarInt(in)];
+      in.readFully(bytes);
+      strings.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+    return read(in, strings);
+  }
+
+  private static void write(DataOutputStream out, Dictionary dictionary, JsonNode node)
+      throws IOException {
+    if (node == null || node.isNull() || node.isMissingNode()) {
+      out.writeByte(NULL);
+    } else if (node.isBoolean()) {
+      out.writeByte(node.booleanValue() ? TRUE : FALSE);
+    } else if (node.isInt() || node.isShort()) {
+      out.writeByte(INT);
+      out.writeInt(node.intValue());
+    } else if (node.isLong()) {
+      out.writeByte(LONG);
+      out.writeLong(node.longValue());
+    } else if (node.isDouble() || node.isFloat()) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(node.doubleValue());
+    } else if (node.isBigInteger()) {
+      out.writeByte(BIG_INTEGER);
+      dictionary.write(out, node.bigIntegerValue().toString());
+    } else if (node.isBigDecimal()) {
+      out.writeByte(DECIMAL);
+      dictionary.write(out, node.decimalValue().toString());
+    } else if (node.isArray()) {
+      out.writeByte(ARRAY);
+      writeVarInt(out, node.size());
+      for (JsonNode item : node) {
+        write(out, dictionary, item);
+      }
+    } else if (node.isObject()) {
+      out.writeByte(OBJECT);
+      writeVarInt(out, node.size());
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        dictionary.write(out, field.getKey());
+        write(out, dictionary, field.getValue());
+      }
+    } else {
+      out.writeByte(STRING);
+      dictionary.write(out, node.asText());
+    }
+  }
+
+  private static JsonNode read(DataInputStream in, List<String> strings) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case NULL:
+        return FACTORY.nullNode();
+      case TRUE:
+        return FACTORY.booleanNode(true);
+      case FALSE:
+        return FACTORY.booleanNode(false);
+      case INT:
+        return FACTORY.numberNode(in.readInt());
+      case LONG:
+        return FACTORY.numberNode(in.readLong());
+      case DOUBLE:
+        return FACTORY.numberNode(in.readDouble());
+      case BIG_INTEGER:
+        return FACTORY.numberNode(new BigInteger(string(in, strings)));
+      case DECIMAL:
+        return FACTORY.numberNode(new BigDecimal(string(in, strings)));
+      case STRING:
+        return FACTORY.textNode(string(in, strings));
+      case ARRAY:
+        int items = readVarInt(in);
+        ArrayNode array = FACTORY.arrayNode(items);
+        for (int i = 0; i < items; i++) {
+          array.add(read(in, strings));
+        }
+        return array;
+      case OBJECT:
+        int fields = readVarInt(in);
+        ObjectNode object = FACTORY.objectNode();
+        for (int i = 0; i < fields; i++) {
+          String name = string(in, strings);
+          object.set(name, read(in, strings));
+        }
+        return object;
+      default:
+        throw new IOException("Unknown node type " + type + " in the encoded tree");
+    }
+  }
+
+  private static String string(DataInputStream in, List<String> strings) throws IOException {
+    int index = readVarInt(in);
+    if (index < 0 || index >= strings.size()) {
+      throw new IOException("Unknown string " + index + " in the encoded tree");
+    }
+    return strings.get(index);
+  }
+
+  private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarInt(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed length in the encoded tree");
+  }
+
+  /** Strings in order of first use. */
+  private static class Dictionary {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private void write(DataOutputStream out, String value) throws IOException {
+      Integer index = indexes.get(value);
+      if (index == null) {
+        index = strings.size();
+        strings.add(value);
+        indexes.put(value, index);
+      }
+      writeVarInt(out, index);
+    }
+
+    private void writeTo(DataOutputStream out) throws IOException {
+      writeVarInt(out, strings.size());
+      for (String value : strings) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+}
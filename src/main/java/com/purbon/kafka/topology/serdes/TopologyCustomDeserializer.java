@@ -7,6 +7,7 @@ import static java.util.stream.Collectors.toList;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
@@ -83,27 +84,80 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
     this.config = config;
   }
 
+  /**
+   * The descriptor is read field by field, and the projects one at a time, so only the tree of the
+   * project being built is kept in memory and not the tree of the whole descriptor.
+   */
   @Override
   public Topology deserialize(JsonParser parser, DeserializationContext context)
       throws IOException {
 
-    JsonNode rootNode = parser.getCodec().readTree(parser);
-    validateRequiresKeys(rootNode, CONTEXT_KEY, PROJECTS_KEY);
+    if (!parser.isExpectedStartObjectToken()) {
+      validateRequiresKeys(readTree(parser), CONTEXT_KEY, PROJECTS_KEY);
+    }
 
     Topology topology = new TopologyImpl(config);
-    List<String> excludeAttributes = Arrays.asList(PROJECTS_KEY, CONTEXT_KEY, PLATFORM_KEY);
+    Platform platform = new Platform();
+    List<Project> projects = new ArrayList<>();
+    boolean hasContext = false;
+    boolean hasProjects = false;
+    boolean prefixChanged = false;
+
+    for (String fieldName = parser.nextFieldName();
+        fieldName != null;
+        fieldName = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (fieldName) {
+        case PROJECTS_KEY:
+          projects.addAll(parseProjects(parser, topology, config));
+          hasProjects = true;
+          break;
+        case CONTEXT_KEY:
+          topology.setContext(readTree(parser).asText());
+          hasContext = true;
+          prefixChanged = hasProjects;
+          break;
+        case PLATFORM_KEY:
+          parsePlatform(parser, readTree(parser), platform);
+          break;
+        default:
+          topology.addOther(fieldName, readTree(parser).asText());
+          prefixChanged = hasProjects;
+      }
+    }
+
+    if (!hasContext) {
+      throw new IOException(CONTEXT_KEY + " is a required field in the topology, please specify.");
+    }
+    if (!hasProjects) {
+      throw new IOException(PROJECTS_KEY + " is a required field in the topology, please specify.");
+    }
+
+    topology.setPlatform(platform);
+    for (Project project : projects) {
+      topology.addProject(project);
+      if (prefixChanged) {
+        // the projects came before some of the attributes their topic names are built with
+        project.setTopics(new ArrayList<>(project.getTopics()));
+      }
+    }
 
-    Iterator<String> fieldNames = rootNode.fieldNames();
-    while (fieldNames.hasNext()) {
-      String fieldName = fieldNames.next();
-      if (!excludeAttributes.contains(fieldName)) {
-        topology.addOther(fieldName, rootNode.get(fieldName).asText());
+    // validate the generated full topics names for valid encoding
+    for (Project project : topology.getProjects()) {
+      for (Topic topic : project.getTopics()) {
+        validateEncodingForTopicName(topic.toString());
       }
     }
-    topology.setContext(rootNode.get(CONTEXT_KEY).asText());
 
-    JsonNode platformNode = rootNode.get(PLATFORM_KEY);
-    Platform platform = new Platform();
+    return topology;
+  }
+
+  private static JsonNode readTree(JsonParser parser) throws IOException {
+    return parser.getCodec().readTree(parser);
+  }
+
+  private void parsePlatform(JsonParser parser, JsonNode platformNode, Platform platform)
+      throws JsonProcessingException {
     if (platformNode != null && platformNode.size() > 0) {
       parse(platformNode, KAFKA_KEY, parser, Kafka.class)
           .ifPresent(obj -> platform.setKafka((Kafka) obj));
@@ -118,19 +172,6 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
     } else {
       LOGGER.debug("No platform components defined in the topology.");
     }
-
-    topology.setPlatform(platform);
-    parseProjects(parser, rootNode.get(PROJECTS_KEY), topology, config)
-        .forEach(topology::addProject);
-
-    // validate the generated full topics names for valid encoding
-    for (Project project : topology.getProjects()) {
-      for (Topic topic : project.getTopics()) {
-        validateEncodingForTopicName(topic.toString());
-      }
-    }
-
-    return topology;
   }
 
   private Optional<Object> parse(JsonNode node, String key, JsonParser parser, Class klass)
@@ -145,12 +186,17 @@ public class TopologyCustomDeserializer extends StdDeserializer<Topology> {
     return Optional.of(obj);
   }
 
-  private List<Project> parseProjects(
-      JsonParser parser, JsonNode projectsNode, Topology topology, Configuration config)
+  private List<Project> parseProjects(JsonParser parser, Topology topology, Configuration config)
       throws IOException {
     List<Project> projects = new ArrayList<>();
-    for (int i = 0; i < projectsNode.size(); i++) {
-      Project project = parseProject(parser, projectsNode.get(i), topology, config);
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return projects;
+    }
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw new IOException(PROJECTS_KEY + " must be a list of projects.");
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      Project project = parseProject(parser, readTree(parser), topology, config);
       LOGGER.debug(
           String.format(
               "Adding project %s to the Topology %s", project.getName(), topology.getContext()));
@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.serdes;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -43,6 +44,31 @@ public class TopologySerdes {
     }
   }
 
+  /**
+   * @param content The content of a descriptor file
+   * @param source Where the content comes from, for the error messages
+   * @return the tree of the descriptor
+   */
+  public JsonNode readTree(byte[] content, String source) {
+    try {
+      JsonNode tree = mapper.readTree(content);
+      if (tree == null || tree.isMissingNode()) {
+        throw new TopologyParsingException("Failed to deserialize topology from " + source);
+      }
+      return tree;
+    } catch (IOException e) {
+      throw new TopologyParsingException("Failed to deserialize topology from " + source, e);
+    }
+  }
+
+  public Topology deserialise(JsonNode tree, String source) {
+    try {
+      return mapper.readerFor(Topology.class).readValue(tree);
+    } catch (IOException e) {
+      throw new TopologyParsingException("Failed to deserialize topology from " + source, e);
+    }
+  }
+
   public Topology deserialise(String content) {
     try {
       return mapper.readValue(content, Topology.class);
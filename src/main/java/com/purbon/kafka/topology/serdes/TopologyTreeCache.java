@@ -0,0 +1,147 @@
+package com.purbon.kafka.topology.serdes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.purbon.kafka.topology.backend.StateCache;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The parsed trees of the descriptor files, kept in the state cache between runs in a compact
+ * binary form. A tree is only reused if the content of its file has the same hash, so only the
+ * files that changed since the last run are parsed again. The topology models are still built from
+ * the trees on every run, as they depend on the configuration and the plans.
+ */
+public class TopologyTreeCache {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopologyTreeCache.class);
+
+  private static final String CACHE_NAME = "topology-trees";
+  private static final String VERSION = "1";
+
+  private final StateCache cache;
+  private final String cacheName;
+  private final Map<String, Entry> cached;
+  private final Map<String, Entry> used;
+  private volatile boolean changed;
+
+  /** A cache that keeps nothing, every file is parsed. */
+  public TopologyTreeCache() {
+    this.cache = new StateCache(null);
+    this.cacheName = CACHE_NAME;
+    this.cached = new ConcurrentHashMap<>();
+    this.used = new ConcurrentHashMap<>();
+    this.changed = false;
+  }
+
+  /**
+   * @param cache The state cache the trees are kept in
+   * @param fileOrDir The topology file or directory, each one has its own cache
+   * @param type The format of the descriptor files
+   */
+  public TopologyTreeCache(StateCache cache, Path fileOrDir, TopologySerdes.FileType type)
+      throws IOException {
+    this.cache = cache;
+    String scope = fileOrDir.toAbsolutePath().normalize() + "\n" + type;
+    this.cacheName =
+        CACHE_NAME + "-" + StateCache.hash(scope.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    this.cached = new ConcurrentHashMap<>();
+    this.used = new ConcurrentHashMap<>();
+    this.changed = false;
+    StateCache.Entry entry = cache.get(cacheName);
+    if (entry != null && VERSION.equals(entry.getTag())) {
+      try {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.getContent()));
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+          String path = in.readUTF();
+          String hash = in.readUTF();
+          byte[] tree = new byte[in.readInt()];
+          in.readFully(tree);
+          cached.put(path, new Entry(hash, tree));
+        }
+      } catch (IOException e) {
+        LOGGER.warn("Ignoring the unreadable topology cache " + cacheName, e);
+        cached.clear();
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return cache.isEnabled();
+  }
+
+  /**
+   * @param path A descriptor file
+   * @param contentHash The hash of the current content of the file
+   * @return the tree parsed from the same content, or null if there is none
+   */
+  public JsonNode get(Path path, String contentHash) {
+    String key = key(path);
+    Entry entry = cached.get(key);
+    if (entry == null || !entry.hash.equals(contentHash)) {
+      return null;
+    }
+    try {
+      JsonNode tree = JsonTreeCodec.decode(entry.tree);
+      used.put(key, entry);
+      return tree;
+    } catch (IOException e) {
+      LOGGER.debug("Ignoring the unreadable cached tree of " + path, e);
+      return null;
+    }
+  }
+
+  public void put(Path path, String contentHash, JsonNode tree) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      used.put(key(path), new Entry(contentHash, JsonTreeCodec.encode(tree)));
+      changed = true;
+    } catch (IOException e) {
+      LOGGER.debug("Failed to encode the tree of " + path, e);
+    }
+  }
+
+  /** Keep the trees used in this run, the trees of files that are gone are dropped. */
+  public synchronized void save() throws IOException {
+    if (!isEnabled() || (!changed && used.size() == cached.size())) {
+      return;
+    }
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(content);
+    out.writeInt(used.size());
+    for (Map.Entry<String, Entry> entry : used.entrySet()) {
+      out.writeUTF(entry.getKey());
+      out.writeUTF(entry.getValue().hash);
+      out.writeInt(entry.getValue().tree.length);
+      out.write(entry.getValue().tree);
+    }
+    out.flush();
+    cache.put(cacheName, VERSION, content.toByteArray());
+    changed = false;
+  }
+
+  private static String key(Path path) {
+    return path.toAbsolutePath().normalize().toString();
+  }
+
+  private static class Entry {
+    private final String hash;
+    private final byte[] tree;
+
+    private Entry(String hash, byte[] tree) {
+      this.hash = hash;
+      this.tree = tree;
+    }
+  }
+}
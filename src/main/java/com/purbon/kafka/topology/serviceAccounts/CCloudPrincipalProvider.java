@@ -3,19 +3,25 @@ package com.purbon.kafka.topology.serviceAccounts;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.PrincipalProvider;
 import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import java.io.IOException;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 public class CCloudPrincipalProvider implements PrincipalProvider {
 
   private CCloudCLI cCloudCLI;
+  private ServiceAccountCache serviceAccounts;
   private String env;
 
   public CCloudPrincipalProvider(Configuration config) {
+    this(config, new ServiceAccountCache(new CCloudCLI()));
+  }
+
+  public CCloudPrincipalProvider(Configuration config, ServiceAccountCache serviceAccounts) {
     this.cCloudCLI = new CCloudCLI();
+    this.serviceAccounts = serviceAccounts;
     this.env = config.getConfluentCloudEnv();
   }
 
@@ -26,19 +32,17 @@ public class CCloudPrincipalProvider implements PrincipalProvider {
 
   @Override
   public Set<ServiceAccount> listServiceAccounts() throws IOException {
-    return new HashSet<>(cCloudCLI.serviceAccounts().values());
+    return new HashSet<>(serviceAccounts.all());
   }
 
   @Override
   public ServiceAccount createServiceAccount(String principal, String description)
       throws IOException {
-    return cCloudCLI.newServiceAccount(principal, description);
+    return serviceAccounts.create(principal, description);
   }
 
   @Override
   public void deleteServiceAccount(String principal) throws IOException {
-    Map<String, ServiceAccount> accounts = cCloudCLI.serviceAccounts();
-    ServiceAccount sa = accounts.get(principal);
-    cCloudCLI.deleteServiceAccount(sa.getId());
+    serviceAccounts.delete(principal);
   }
 }
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology.utils;
 
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.ccloud.CCloudCLI;
+import com.purbon.kafka.topology.api.ccloud.ServiceAccountCache;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import java.io.IOException;
 import java.util.HashMap;
@@ -10,12 +11,18 @@ import java.util.Map;
 public class CCloudUtils {
 
   private final CCloudCLI cli;
+  private final ServiceAccountCache serviceAccountCache;
   private String env;
   private Map<String, ServiceAccount> serviceAccounts;
   private boolean warmed;
 
   public CCloudUtils(CCloudCLI cli, Configuration config) {
+    this(cli, new ServiceAccountCache(cli), config);
+  }
+
+  public CCloudUtils(CCloudCLI cli, ServiceAccountCache serviceAccountCache, Configuration config) {
     this.cli = cli;
+    this.serviceAccountCache = serviceAccountCache;
     this.env = config.useConfluentCloud() ? config.getConfluentCloudEnv() : "";
     this.serviceAccounts = new HashMap<>();
     this.warmed = false;
@@ -31,7 +38,7 @@ public class CCloudUtils {
         throw new IOException("Environment can't be empty");
       }
       cli.setEnvironment(env);
-      this.serviceAccounts = cli.serviceAccounts();
+      this.serviceAccounts = serviceAccountCache.byName();
       this.warmed = true;
     }
   }
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology.utils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import java.util.List;
@@ -44,6 +45,22 @@ public class JSON {
     return mapper.readValue(jsonString, collectionType);
   }
 
+  /**
+   * Readers are immutable and safe to share between threads, callers should keep the reader instead
+   * of building it for every document.
+   *
+   * @return a reader for documents with a list of objects of the given class
+   */
+  public static ObjectReader listReader(Class<?> objectClazz) {
+    return mapper.readerFor(
+        mapper.getTypeFactory().constructCollectionType(List.class, objectClazz));
+  }
+
+  /** @return a reader for documents with an object of the given class */
+  public static ObjectReader reader(Class<?> objectClazz) {
+    return mapper.readerFor(objectClazz);
+  }
+
   public static Object toObject(String jsonString, Class objectClazz)
       throws JsonProcessingException {
     return mapper.readValue(jsonString, objectClazz);
@@ -1,13 +1,74 @@
 package com.purbon.kafka.topology.utils;
 
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class JinjaUtils {
 
   private static Jinjava jinjava = new Jinjava();
 
+  /**
+   * The parsed templates, by format, every format is parsed once and rendered many times. Formats
+   * that do not parse are kept too, with their errors, so they fail right away on the next calls.
+   */
+  private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+
   public static String serialise(String format, Map<String, Object> context) {
-    return jinjava.render(format, context);
+    Template template = templates.computeIfAbsent(format, JinjaUtils::compile);
+    if (!template.errors.isEmpty()) {
+      throw new FatalTemplateErrorsException(format, template.errors);
+    }
+
+    Context renderContext =
+        new Context(jinjava.getGlobalContext(), context, jinjava.getGlobalConfig().getDisabled());
+    JinjavaInterpreter interpreter =
+        new JinjavaInterpreter(jinjava, renderContext, jinjava.getGlobalConfig());
+    JinjavaInterpreter.pushCurrent(interpreter);
+    try {
+      String output = interpreter.render(template.node);
+      List<TemplateError> errors = fatalErrors(interpreter);
+      if (!errors.isEmpty()) {
+        throw new FatalTemplateErrorsException(format, errors);
+      }
+      return output;
+    } finally {
+      JinjavaInterpreter.popCurrent();
+    }
+  }
+
+  private static Template compile(String format) {
+    JinjavaInterpreter interpreter = jinjava.newInterpreter();
+    JinjavaInterpreter.pushCurrent(interpreter);
+    try {
+      Node node = interpreter.parse(format);
+      return new Template(node, fatalErrors(interpreter));
+    } finally {
+      JinjavaInterpreter.popCurrent();
+    }
+  }
+
+  private static List<TemplateError> fatalErrors(JinjavaInterpreter interpreter) {
+    return interpreter.getErrorsCopy().stream()
+        .filter(error -> error.getSeverity() == ErrorType.FATAL)
+        .collect(Collectors.toList());
+  }
+
+  private static class Template {
+    private final Node node;
+    private final List<TemplateError> errors;
+
+    private Template(Node node, List<TemplateError> errors) {
+      this.node = node;
+      this.errors = errors;
+    }
   }
 }
@@ -0,0 +1,47 @@
+package com.purbon.kafka.topology.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Tells whether a name starts with any of a list of prefixes. The prefixes are kept sorted and
+ * without the ones already covered by a shorter prefix, so a matching prefix, if any, is the
+ * greatest one not after the name and a single binary search finds it.
+ */
+public class PrefixMatcher {
+
+  private final String[] prefixes;
+
+  public PrefixMatcher(Collection<String> prefixes) {
+    List<String> reduced = new ArrayList<>();
+    for (String prefix : new TreeSet<>(prefixes)) {
+      // in sorted order, a prefix comes right before the prefixes it covers
+      if (reduced.isEmpty() || !prefix.startsWith(reduced.get(reduced.size() - 1))) {
+        reduced.add(prefix);
+      }
+    }
+    this.prefixes = reduced.toArray(new String[0]);
+  }
+
+  public boolean isEmpty() {
+    return prefixes.length == 0;
+  }
+
+  /** @return true if the name starts with one of the prefixes */
+  public boolean matches(String name) {
+    int index = Arrays.binarySearch(prefixes, name);
+    if (index >= 0) {
+      return true;
+    }
+    int floor = -index - 2;
+    return floor >= 0 && name.startsWith(prefixes[floor]);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(prefixes);
+  }
+}
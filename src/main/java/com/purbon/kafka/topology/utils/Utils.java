@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -30,4 +31,20 @@ public class Utils {
     LOGGER.debug(String.format("Artefact File %s loaded from %s", file, path));
     return path;
   }
+
+  public static <T> List<List<T>> partition(Collection<T> items, int size) {
+    List<List<T>> batches = new ArrayList<>();
+    List<T> batch = new ArrayList<>();
+    for (T item : items) {
+      batch.add(item);
+      if (batch.size() >= size) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
 }
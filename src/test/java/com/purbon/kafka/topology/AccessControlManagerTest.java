@@ -541,6 +541,7 @@ public class AccessControlManagerTest {
     builder.removeConsumer("User:app2");
 
     Mockito.reset(aclsProvider);
+    when(aclsProvider.clearBindings(any())).thenAnswer(invocation -> invocation.getArgument(0));
     plan = ExecutionPlan.init(backendController, mockPrintStream);
     Topology topology = builder.buildTopology();
     accessControlManager.updatePlan(plan, topology);
@@ -1,17 +1,24 @@
 package com.purbon.kafka.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.purbon.kafka.topology.clients.ArtefactClient;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.Rule;
@@ -89,4 +96,39 @@ public class ArtefactManagerTest {
     ArtefactClient selectedClientBar = artefactManager.selectClient(serverBarArtefact);
     assertThat(selectedClientBar).isNull();
   }
+
+  @Test
+  public void testRequestAllClientsReportsEveryFailure() throws IOException {
+    Map<String, ArtefactClient> clients = new LinkedHashMap<>();
+    clients.put("server0", mockClient1);
+    clients.put("server1", mockClient2);
+    when(mockClient1.list()).thenThrow(new IOException("server0 is down"));
+    when(mockClient2.list()).thenThrow(new IOException("server1 is down"));
+
+    String file = TestUtils.getResourceFilename("/descriptor.yaml");
+    MyArtefactManager artefactManager = new MyArtefactManager(clients, new Configuration(), file);
+
+    assertThatThrownBy(() -> artefactManager.requestAllClients(ArtefactClient::list))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("server0 is down")
+        .hasMessageContaining("server1 is down");
+    verify(mockClient1).list();
+    verify(mockClient2).list();
+  }
+
+  @Test
+  public void testRequestAllClientsKeepsTheClientOrder() throws IOException {
+    Map<String, ArtefactClient> clients = new LinkedHashMap<>();
+    clients.put("server0", mockClient1);
+    clients.put("server1", mockClient2);
+    when(mockClient1.list()).thenReturn(Collections.singletonList("foo"));
+    when(mockClient2.list()).thenReturn(Collections.singletonList("bar"));
+
+    String file = TestUtils.getResourceFilename("/descriptor.yaml");
+    MyArtefactManager artefactManager = new MyArtefactManager(clients, new Configuration(), file);
+
+    List<List<String>> results = artefactManager.requestAllClients(ArtefactClient::list);
+    assertThat(results)
+        .containsExactly(Collections.singletonList("foo"), Collections.singletonList("bar"));
+  }
 }
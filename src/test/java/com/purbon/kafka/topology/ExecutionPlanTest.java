@@ -1,9 +1,18 @@
 package com.purbon.kafka.topology;
 
+import static com.purbon.kafka.topology.Constants.EXECUTION_PLAN_PARALLELISM;
+import static com.purbon.kafka.topology.Constants.TOPIC_ACTIONS_BATCH_ENABLED;
+import static com.purbon.kafka.topology.Constants.TOPIC_ACTIONS_BATCH_SIZE;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.purbon.kafka.topology.actions.access.ClearBindings;
 import com.purbon.kafka.topology.actions.access.CreateBindings;
@@ -23,8 +32,13 @@ import com.purbon.kafka.topology.utils.TestUtils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
@@ -96,6 +110,7 @@ public class ExecutionPlanTest {
     ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream);
 
     bindings = new HashSet<>(singletonList(binding2));
+    when(aclsProvider.clearBindings(bindings)).thenReturn(bindings);
     ClearBindings clearBindingsAction = new ClearBindings(aclsProvider, bindings);
 
     plan.add(clearBindingsAction);
@@ -111,6 +126,33 @@ public class ExecutionPlanTest {
     backendController.flushAndClose();
   }
 
+  @Test
+  public void deleteBindingsKeepsFailedBindingsTest() throws IOException {
+    TopologyAclBinding binding1 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicA", "*", "ALL", "User:foo", "LITERAL");
+    TopologyAclBinding binding2 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicB", "*", "ALL", "User:foo", "LITERAL");
+    Set<TopologyAclBinding> bindings = new HashSet<>(Arrays.asList(binding1, binding2));
+    plan.add(new CreateBindings(aclsProvider, bindings));
+    plan.run();
+
+    BackendController backendController = new BackendController();
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream);
+
+    when(aclsProvider.clearBindings(bindings)).thenReturn(Collections.singleton(binding1));
+    plan.add(new ClearBindings(aclsProvider, bindings));
+    IOException error = assertThrows(IOException.class, plan::run);
+    assertThat(error).hasMessageContaining("topicB").hasMessageNotContaining("topicA");
+
+    backendController = new BackendController();
+    backendController.load();
+    assertEquals(1, backendController.size());
+    assertThat(backendController.getBindings()).containsExactly(binding2);
+    backendController.flushAndClose();
+  }
+
   @Test
   public void addTopicsTest() throws IOException {
     Topology topology = buildTopologyForTest();
@@ -134,6 +176,34 @@ public class ExecutionPlanTest {
     assertEquals(2, backendController.size());
   }
 
+  @Test
+  public void addTopicsAndBindingsInParallelTest() throws IOException {
+    Properties props = new Properties();
+    props.put(EXECUTION_PLAN_PARALLELISM, "4");
+    plan =
+        ExecutionPlan.init(
+            backendController, mockPrintStream, new Configuration(new HashMap<>(), props));
+
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+    TopologyAclBinding binding =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicA", "*", "ALL", "User:foo", "LITERAL");
+
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.add(new CreateBindings(aclsProvider, Collections.singleton(binding)));
+
+    plan.run();
+
+    verify(adminClient, times(1)).createTopic(topicFoo, topicFoo.toString());
+    verify(adminClient, times(1)).createTopic(topicBar, topicBar.toString());
+    verify(aclsProvider, times(1)).createBindings(Collections.singleton(binding));
+    assertThat(plan.getTopics()).containsOnly(topicFoo.toString(), topicBar.toString());
+    assertThat(plan.getBindings()).containsOnly(binding);
+  }
+
   @Test
   public void deleteTopicsPreviouslyAddedTest() throws IOException {
     Topology topology = buildTopologyForTest();
@@ -169,6 +239,57 @@ public class ExecutionPlanTest {
     assertEquals(1, backendController.size());
   }
 
+  @Test
+  public void addTopicsInBatchesTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream, batchConfig(1));
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+
+    plan.run();
+
+    verify(adminClient, times(1))
+        .createTopics(Collections.singletonMap(topicFoo.toString(), topicFoo));
+    verify(adminClient, times(1))
+        .createTopics(Collections.singletonMap(topicBar.toString(), topicBar));
+    verify(adminClient, times(0)).createTopic(any(), anyString());
+    assertEquals(2, backendController.size());
+  }
+
+  @Test
+  public void addTopicsInBatchesWithFailuresTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    Map<String, Throwable> failures = new HashMap<>();
+    failures.put(topicBar.toString(), new InvalidReplicationFactorException("bad rf"));
+    when(adminClient.createTopics(anyMap())).thenReturn(failures);
+
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream, batchConfig(10));
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+
+    IOException error = assertThrows(IOException.class, plan::run);
+    assertThat(error).hasMessageContaining(topicBar.toString());
+    verify(adminClient, times(1)).createTopics(anyMap());
+
+    backendController = new BackendController();
+    backendController.load();
+    assertThat(backendController.getTopics()).containsExactly(topicFoo.toString());
+    backendController.flushAndClose();
+  }
+
+  private Configuration batchConfig(int batchSize) {
+    Properties props = new Properties();
+    props.put(TOPIC_ACTIONS_BATCH_ENABLED, "true");
+    props.put(TOPIC_ACTIONS_BATCH_SIZE, String.valueOf(batchSize));
+    return new Configuration(new HashMap<>(), props);
+  }
+
   private Topology buildTopologyForTest() {
     Topology topology = new TopologyImpl();
     topology.setContext("context");
@@ -0,0 +1,72 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.actions.DeleteArtefactAction;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class ExecutionStateTest {
+
+  private final ExecutionState state = new ExecutionState();
+
+  @Test
+  public void actionsApplyTheirEffect() {
+    TopologyAclBinding binding =
+        new TopologyAclBinding("TOPIC", "topicA", "*", "READ", "User:foo", "LITERAL");
+    new CreateBindings(null, Collections.singleton(binding)).applyTo(state);
+
+    state.addTopics(Arrays.asList("topicA", "topicB"));
+    new DeleteTopics(null, Collections.singletonList("topicA")).applyTo(state);
+
+    KafkaConnectArtefact connector = new KafkaConnectArtefact("path", "server", "connector");
+    KsqlStreamArtefact stream = new KsqlStreamArtefact("path", "server", "stream");
+    state.addArtefact(connector);
+    state.addArtefact(stream);
+    new DeleteArtefactAction(null, connector).applyTo(state);
+
+    assertThat(state.getBindings()).containsOnly(binding);
+    assertThat(state.getTopics()).containsOnly("topicB");
+    assertThat(state.getConnectors()).isEmpty();
+    assertThat(state.getKSqlArtefacts()).hasSize(1);
+    assertThat(state.getKSqlStreams()).containsOnly(stream);
+  }
+
+  /**
+   * Scale check for the bookkeeping: 100k bindings and topics, removed by many small delete actions
+   * and a few large ones built from lists. Rebuilding the sets on every action, or looking the
+   * deleted items up in a list, does not finish within the timeout.
+   */
+  @Test(timeout = 10000)
+  public void bookkeepingScalesWithTheChangedItems() {
+    int size = 100000;
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    List<String> topics = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      bindings.add(
+          new TopologyAclBinding("TOPIC", "topic" + i, "*", "READ", "User:foo", "LITERAL"));
+      topics.add("topic" + i);
+    }
+    state.addBindings(bindings);
+    state.addTopics(topics);
+
+    for (int i = 0; i < size / 2; i += 10) {
+      state.removeBindings(bindings.subList(i, i + 10));
+    }
+    new DeleteTopics(null, topics.subList(0, size / 2)).applyTo(state);
+
+    Set<String> expectedTopics = new HashSet<>(topics.subList(size / 2, size));
+    assertThat(state.getBindings()).hasSize(size / 2);
+    assertThat(state.getTopics()).isEqualTo(expectedTopics);
+  }
+}
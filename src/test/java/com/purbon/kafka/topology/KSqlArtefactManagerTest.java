@@ -0,0 +1,82 @@
+package com.purbon.kafka.topology;
+
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.actions.DeleteArtefactBatchAction;
+import com.purbon.kafka.topology.api.ksql.KsqlApiClient;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class KSqlArtefactManagerTest {
+
+  @Mock KsqlApiClient client;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private ExecutionPlan plan;
+  private KSqlArtefactManager manager;
+
+  // removed artefacts whose files were removed too, or read from the cluster without a file
+  private final Artefact riders = new KsqlStreamArtefact("riders.sql", null, "riders");
+  private final Artefact enriched = new KsqlStreamArtefact("", null, "ENRICHED");
+  private final Artefact counts = new KsqlTableArtefact("counts.sql", null, "counts");
+
+  @Before
+  public void setup() throws IOException {
+    Files.deleteIfExists(Paths.get(".cluster-state"));
+    plan = ExecutionPlan.init(new BackendController(), System.out);
+
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Configuration config = new Configuration(cliOps, new Properties());
+    manager = new KSqlArtefactManager(client, config, folder.getRoot().getAbsolutePath());
+  }
+
+  @Test
+  public void shouldDropArtefactsWithoutFilesInDependencyOrder() throws IOException {
+    when(client.sourceStatements("riders"))
+        .thenReturn("CREATE STREAM RIDERS (ID STRING) WITH (KAFKA_TOPIC='riders');");
+    when(client.sourceStatements("ENRICHED"))
+        .thenReturn("CREATE STREAM ENRICHED AS SELECT * FROM RIDERS EMIT CHANGES;");
+    when(client.sourceStatements("counts"))
+        .thenReturn(
+            "CREATE TABLE COUNTS AS SELECT ID, COUNT(*) FROM ENRICHED GROUP BY ID;\n"
+                + "INSERT INTO COUNTS SELECT ID, COUNT(*) FROM RIDERS GROUP BY ID;");
+
+    manager.addDeleteActions(plan, Arrays.asList(riders, enriched, counts));
+
+    assertThat(plan.getActions()).hasSize(1);
+    DeleteArtefactBatchAction action = (DeleteArtefactBatchAction) plan.getActions().get(0);
+    assertThat(action.getArtefacts()).containsExactly(counts, enriched, riders);
+  }
+
+  @Test
+  public void shouldDropArtefactsTheServerCannotDescribe() throws IOException {
+    when(client.sourceStatements("riders")).thenThrow(new IOException("Source not found"));
+    when(client.sourceStatements("ENRICHED"))
+        .thenReturn("CREATE STREAM ENRICHED AS SELECT * FROM RIDERS EMIT CHANGES;");
+
+    manager.addDeleteActions(plan, Arrays.asList(riders, enriched));
+
+    DeleteArtefactBatchAction action = (DeleteArtefactBatchAction) plan.getActions().get(0);
+    assertThat(action.getArtefacts()).containsExactlyInAnyOrder(riders, enriched);
+  }
+}
@@ -0,0 +1,107 @@
+package com.purbon.kafka.topology;
+
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.PLATFORM_SERVERS_CONNECT;
+import static com.purbon.kafka.topology.Constants.STATE_CACHE_DIR_CONFIG;
+import static com.purbon.kafka.topology.Constants.TOPOLOGY_STATE_FROM_CLUSTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.UpdateArtefactAction;
+import com.purbon.kafka.topology.api.connect.ConnectorInfo;
+import com.purbon.kafka.topology.api.connect.KConnectApiClient;
+import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.serdes.TopologySerdes;
+import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class KafkaConnectArtefactManagerTest {
+
+  private static final String SERVER = "http://connect:8083";
+
+  @Mock KConnectApiClient client;
+
+  @Mock BackendController backendController;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder cacheDir = new TemporaryFolder();
+
+  private KafkaConnectArtefactManager connectorManager;
+  private Topology topology;
+  private ExecutionPlan plan;
+
+  @Before
+  public void before() throws IOException {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(TOPOLOGY_STATE_FROM_CLUSTER, "true");
+    props.put(PLATFORM_SERVERS_CONNECT + ".0", "connector0:" + SERVER);
+    props.put(STATE_CACHE_DIR_CONFIG, cacheDir.getRoot().getAbsolutePath());
+    Configuration config = new Configuration(cliOps, props);
+
+    File file = TestUtils.getResourceFile("/descriptor-connector.yaml");
+    topology = new TopologySerdes().deserialise(file);
+    connectorManager = new KafkaConnectArtefactManager(client, config, file.getAbsolutePath());
+    plan = ExecutionPlan.init(backendController, System.out);
+
+    when(client.getServer()).thenReturn(SERVER);
+  }
+
+  @Test
+  public void shouldUpdateOnlyTheConnectorsWithADifferentConfig() throws IOException {
+    Map<String, String> sourceConfig = new HashMap<>();
+    sourceConfig.put("name", "source-jdbc");
+    sourceConfig.put("connector.class", "FileStreamSource");
+    sourceConfig.put("tasks.max", "1");
+    sourceConfig.put("file", "/tmp/test.txt");
+    sourceConfig.put("topic", "connect-test");
+    Map<String, String> sinkConfig = new HashMap<>(sourceConfig);
+    sinkConfig.put("name", "sink-jdbc");
+    sinkConfig.put("topic", "other-topic");
+
+    when(client.describe())
+        .thenReturn(
+            Arrays.asList(
+                new ConnectorInfo(
+                    "source-jdbc", "source", sourceConfig, "RUNNING", Collections.emptyList()),
+                new ConnectorInfo(
+                    "sink-jdbc", "source", sinkConfig, "RUNNING", Collections.emptyList())));
+
+    connectorManager.updatePlan(plan, topology);
+
+    List<Action> actions = plan.getActions();
+    assertThat(actions).hasSize(1);
+    assertThat(actions.get(0)).isInstanceOf(UpdateArtefactAction.class);
+    assertThat(((UpdateArtefactAction) actions.get(0)).getArtefact().getName())
+        .isEqualTo("sink-jdbc");
+    assertThat(cacheDir.getRoot().list()).contains("connectors-config-index");
+  }
+
+  @Test
+  public void shouldNotUpdateConnectorsWithoutAKnownConfig() throws IOException {
+    when(client.describe())
+        .thenReturn(
+            Arrays.asList(new ConnectorInfo("source-jdbc"), new ConnectorInfo("sink-jdbc")));
+
+    connectorManager.updatePlan(plan, topology);
+
+    assertThat(plan.getActions()).isEmpty();
+  }
+}
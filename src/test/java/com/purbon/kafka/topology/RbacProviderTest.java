@@ -1,14 +1,19 @@
 package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.MDS_LOOKUP_PARALLELISM_CONFIG;
 import static com.purbon.kafka.topology.Constants.OPTIMIZED_ACLS_CONFIG;
 import static com.purbon.kafka.topology.roles.rbac.RBACBindingsBuilder.LITERAL;
 import static com.purbon.kafka.topology.roles.rbac.RBACBindingsBuilder.PREFIX;
 import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_READ;
 import static com.purbon.kafka.topology.roles.rbac.RBACPredefinedRoles.DEVELOPER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.mds.MDSApiClient;
+import com.purbon.kafka.topology.api.mds.RbacResourceType;
 import com.purbon.kafka.topology.api.mds.RequestScope;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
@@ -28,9 +33,16 @@ import com.purbon.kafka.topology.roles.rbac.ClusterLevelRoleBuilder;
 import com.purbon.kafka.topology.roles.rbac.RBACBindingsBuilder;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -290,4 +302,153 @@ public class RbacProviderTest {
     verify(apiClient, times(6))
         .bind(anyString(), anyString(), anyString(), anyString(), anyString());
   }
+
+  @Test
+  public void createBindingsGroupedByPrincipalRoleAndScope() throws IOException {
+    Map<String, Map<String, String>> clusters = new HashMap<>();
+    clusters.put("clusters", Collections.singletonMap("kafka-cluster", "ak"));
+    Set<TopologyAclBinding> bindings = new HashSet<>();
+    bindings.add(resourceBinding("User:app1", DEVELOPER_READ, "topicA", clusters));
+    bindings.add(resourceBinding("User:app1", DEVELOPER_READ, "topicB", clusters));
+    bindings.add(resourceBinding("User:app1", DEVELOPER_WRITE, "topicA", clusters));
+    bindings.add(resourceBinding("User:app2", DEVELOPER_READ, "topicA", clusters));
+    RequestScope clusterScope = new RequestScope();
+    clusterScope.setClusters(clusters);
+    clusterScope.build();
+    TopologyAclBinding clusterBinding =
+        new TopologyAclBinding("CLUSTER", "cluster", "*", "SecurityAdmin", "User:app1", LITERAL);
+    clusterBinding.setScope(clusterScope);
+    bindings.add(clusterBinding);
+
+    when(apiClient.bindRequestAsync(any())).thenReturn(CompletableFuture.completedFuture(""));
+
+    aclsProvider.createBindings(bindings);
+
+    ArgumentCaptor<TopologyAclBinding> requests = ArgumentCaptor.forClass(TopologyAclBinding.class);
+    verify(apiClient, times(4)).bindRequestAsync(requests.capture());
+    TopologyAclBinding grouped =
+        requests.getAllValues().stream()
+            .filter(b -> b.getPrincipal().equals("User:app1"))
+            .filter(b -> b.getOperation().equals(DEVELOPER_READ))
+            .findFirst()
+            .get();
+    assertThat(grouped.getScope().getResources())
+        .extracting(resource -> resource.get(RequestScope.RESOURCE_NAME))
+        .containsExactlyInAnyOrder("topicA", "topicB");
+    assertThat(grouped.getScope().asJson()).contains("resourcePatterns");
+  }
+
+  @Test
+  public void createBindingsFailsWhenARequestFails() {
+    when(apiClient.bindRequestAsync(any()))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("mds is down")));
+    Map<String, Map<String, String>> clusters = new HashMap<>();
+
+    assertThrows(
+        IOException.class,
+        () ->
+            aclsProvider.createBindings(
+                Collections.singleton(
+                    resourceBinding("User:app1", DEVELOPER_READ, "topicA", clusters))));
+  }
+
+  private TopologyAclBinding resourceBinding(
+      String principal, String role, String topic, Map<String, Map<String, String>> clusters) {
+    RequestScope scope = new RequestScope();
+    scope.setClusters(clusters);
+    scope.addResource("Topic", topic, LITERAL);
+    scope.build();
+    TopologyAclBinding binding =
+        new TopologyAclBinding("TOPIC", topic, "*", role, principal, LITERAL);
+    binding.setScope(scope);
+    return binding;
+  }
+
+  @Test
+  public void listAclsFromAllRolesAndPrincipals() {
+    when(apiClient.getRoleNames()).thenReturn(Arrays.asList(DEVELOPER_READ, DEVELOPER_WRITE));
+    when(apiClient.lookupKafkaPrincipalsByRoleForKafkaAsync(DEVELOPER_READ))
+        .thenReturn(CompletableFuture.completedFuture(Arrays.asList("User:app1", "User:app2")));
+    when(apiClient.lookupKafkaPrincipalsByRoleForKafkaAsync(DEVELOPER_WRITE))
+        .thenReturn(CompletableFuture.completedFuture(Collections.singletonList("User:app1")));
+    when(apiClient.lookupResourcesForKafkaAsync(anyString(), anyString()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                Collections.singletonList(new RbacResourceType("Topic", "topicA", LITERAL))));
+
+    Map<String, List<TopologyAclBinding>> acls = aclsProvider.listAcls();
+
+    assertThat(acls).containsOnlyKeys("topicA");
+    assertThat(acls.get("topicA"))
+        .extracting(TopologyAclBinding::getPrincipal, TopologyAclBinding::getOperation)
+        .containsExactlyInAnyOrder(
+            tuple("User:app1", DEVELOPER_READ),
+            tuple("User:app2", DEVELOPER_READ),
+            tuple("User:app1", DEVELOPER_WRITE));
+    assertThat(acls.get("topicA").get(0).getResourceType()).isEqualTo("TOPIC");
+  }
+
+  @Test
+  public void listAclsWithBoundedConcurrency() {
+    HashMap<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(MDS_LOOKUP_PARALLELISM_CONFIG, 4);
+    Configuration config = new Configuration(cliOps, props);
+
+    InMemoryMdsApiClient mds = new InMemoryMdsApiClient(20, 50);
+    Map<String, List<TopologyAclBinding>> acls = new RBACProvider(mds, config).listAcls();
+
+    assertThat(acls).hasSize(50);
+    assertThat(acls.values().stream().mapToInt(List::size).sum()).isEqualTo(20 * 50);
+    assertThat(mds.maxInFlight.get()).isLessThanOrEqualTo(4);
+    assertThat(mds.maxInFlight.get()).isGreaterThan(1);
+  }
+
+  /** An MDS stand-in that holds every principal in every role, answering after a short delay. */
+  private static class InMemoryMdsApiClient extends MDSApiClient {
+
+    private final int roles;
+    private final int principals;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Executor delayed = CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS);
+
+    InMemoryMdsApiClient(int roles, int principals) {
+      super("http://localhost:8090");
+      this.roles = roles;
+      this.principals = principals;
+    }
+
+    @Override
+    public List<String> getRoleNames() {
+      return IntStream.range(0, roles).mapToObj(i -> "Role" + i).collect(Collectors.toList());
+    }
+
+    @Override
+    public CompletableFuture<List<String>> lookupKafkaPrincipalsByRoleForKafkaAsync(String role) {
+      return respond(
+          IntStream.range(0, principals)
+              .mapToObj(i -> "User:app" + i)
+              .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<List<RbacResourceType>> lookupResourcesForKafkaAsync(
+        String principal, String role) {
+      String topic = "topic-" + principal.substring("User:app".length());
+      return respond(Collections.singletonList(new RbacResourceType("Topic", topic, LITERAL)));
+    }
+
+    private <T> CompletableFuture<T> respond(T response) {
+      int current = inFlight.incrementAndGet();
+      maxInFlight.accumulateAndGet(current, Math::max);
+      return CompletableFuture.supplyAsync(
+          () -> {
+            inFlight.decrementAndGet();
+            return response;
+          },
+          delayed);
+    }
+  }
 }
@@ -3,9 +3,12 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.*;
 import static com.purbon.kafka.topology.TopicManager.NUM_PARTITIONS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaBatchAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopicImpl;
@@ -13,6 +16,7 @@ import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -115,7 +119,14 @@ public class TopicManagerTest {
     topicB = new TopicImpl("topicB", Collections.singletonMap(NUM_PARTITIONS, "12"));
     project.addTopic(topicB);
 
-    doReturn(new Config(Collections.emptyList())).when(adminClient).getActualTopicConfig(any());
+    Map<String, Config> configs = new HashMap<>();
+    configs.put(topicA.toString(), new Config(Collections.emptyList()));
+    configs.put(topicB.toString(), new Config(Collections.emptyList()));
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    partitionCounts.put(topicA.toString(), 3);
+    partitionCounts.put(topicB.toString(), 3);
+    doReturn(configs).when(adminClient).getActualTopicConfigs(anyCollection());
+    doReturn(partitionCounts).when(adminClient).getPartitionCounts(anyCollection());
     topicManager.updatePlan(plan, topology);
     plan.run();
 
@@ -332,7 +343,7 @@ public class TopicManagerTest {
     topicManager.updatePlan(plan, topology);
     plan.run(true);
 
-    verify(outputStream, times(4)).println(any(Action.class));
+    verify(outputStream, times(2)).println(any(Action.class));
   }
 
   @Test
@@ -360,4 +371,63 @@ public class TopicManagerTest {
     verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
     verify(adminClient, times(0)).createTopic(topicB, topicB.toString());
   }
+
+  @Test
+  public void schemasRegisteredAlreadyAreSkippedWithoutAskingTheRegistryTest() throws IOException {
+    Topology topology = topologyWithASchema();
+    when(schemaRegistryManager.isRegistered(
+            anyString(), eq("schemas/foo-value.avsc"), eq("AVRO"), any()))
+        .thenReturn(true);
+
+    topicManager.updatePlan(plan, topology);
+    plan.run();
+
+    assertThat(plan.getActions()).noneMatch(action -> action instanceof RegisterSchemaBatchAction);
+    verify(schemaRegistryManager, never()).isLatest(any(), any(), any(), any());
+    verify(schemaRegistryManager, never()).register(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  public void schemasRegisteredAlreadyAreVerifiedWhenTheActionRunsTest() throws IOException {
+    props.put(SCHEMAS_VERIFY_REGISTERED_CONFIG, "true");
+    Configuration config = new Configuration(cliOps, props);
+    TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Topology topology = topologyWithASchema();
+    Topic topic = topology.getProjects().get(0).getTopics().get(0);
+    when(schemaRegistryManager.isRegistered(
+            anyString(), eq("schemas/foo-value.avsc"), eq("AVRO"), any()))
+        .thenReturn(true);
+    when(schemaRegistryManager.isLatest(
+            anyString(), eq("schemas/foo-value.avsc"), eq("AVRO"), any()))
+        .thenReturn(false);
+
+    topicManager.updatePlan(plan, topology);
+    verify(schemaRegistryManager, never()).isLatest(any(), any(), any(), any());
+    assertThat(plan.getActions()).anyMatch(action -> action instanceof RegisterSchemaBatchAction);
+
+    plan.run();
+    verify(schemaRegistryManager, times(1))
+        .register(eq(topic.toString() + "-value"), eq("schemas/foo-value.avsc"), eq("AVRO"));
+  }
+
+  private Topology topologyWithASchema() {
+    Topology topology = new TopologyImpl();
+    Project project = new ProjectImpl("project");
+    TopicImpl topic = new TopicImpl("foo");
+    TopicSchemas schemas =
+        new TopicSchemas(
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.of(new TextNode("schemas/foo-value.avsc")),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty());
+    topic.setSchemas(Collections.singletonList(schemas));
+    project.addTopic(topic);
+    topology.addProject(project);
+    return topology;
+  }
 }
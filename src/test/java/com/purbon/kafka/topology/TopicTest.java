@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import org.junit.Assert;
 import org.junit.Before;
@@ -120,4 +121,40 @@ public class TopicTest {
     String fullName = topic.toString();
     Assert.assertEquals("other.team.project.topic", fullName);
   }
+
+  @Test
+  public void buildTopicNameFormatWithCustomPatternAndDataType() {
+
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    cliOps.put(CLIENT_CONFIG_OPTION, "/fooBar");
+
+    Properties props = new Properties();
+    props.put(TOPIC_PREFIX_FORMAT_CONFIG, "{{context}}.{{project}}.{{topic}}.{{dataType}}");
+    Configuration config = new Configuration(cliOps, props);
+
+    Topology topology = new TopologyImpl(config);
+    topology.setContext("team");
+
+    Project project = new ProjectImpl("project", config);
+    topology.setProjects(Collections.singletonList(project));
+
+    Topic typedTopic = new TopicImpl("typed", Optional.of("avro"), new HashMap<>(), config);
+    Topic topic = new TopicImpl("topic", config);
+    project.addTopic(typedTopic);
+    project.addTopic(topic);
+
+    Assert.assertEquals("team.project.typed.avro", typedTopic.toString());
+    Assert.assertEquals("team.project.topic.", topic.toString());
+  }
+
+  @Test
+  public void buildTopicNameAfterPrefixChange() {
+    Topic topic = new TopicImpl("topic");
+    topic.setDefaultProjectPrefix(project.namePrefix());
+    Assert.assertEquals("team.project.topic", topic.toString());
+
+    topic.setDefaultProjectPrefix("other.project");
+    Assert.assertEquals("other.project.topic", topic.toString());
+  }
 }
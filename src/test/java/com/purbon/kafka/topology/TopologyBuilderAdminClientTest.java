@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
@@ -16,13 +17,19 @@ import com.purbon.kafka.topology.model.users.platform.ControlCenterInstance;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistry;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistryInstance;
 import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.roles.acls.AclsBindingsBuilder;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.errors.SecurityDisabledException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -204,4 +211,46 @@ public class TopologyBuilderAdminClientTest {
 
     verify(kafkaAdminClient, times(1)).createAcls(anyCollection());
   }
+
+  @Test
+  public void clearBindingsInChunksTest() throws IOException {
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      bindings.add(
+          new TopologyAclBinding(
+              ResourceType.TOPIC.name(), "topic" + i, "*", "READ", "User:foo", "LITERAL"));
+    }
+    TopologyAclBinding failedBinding = bindings.get(3);
+
+    when(kafkaAdminClient.deleteAcls(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<AclBindingFilter> filters = invocation.getArgument(0);
+              Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values =
+                  new HashMap<>();
+              for (AclBindingFilter filter : filters) {
+                KafkaFutureImpl<DeleteAclsResult.FilterResults> future = new KafkaFutureImpl<>();
+                if (filter.patternFilter().name().equals(failedBinding.getResourceName())) {
+                  future.completeExceptionally(new SecurityDisabledException("disabled"));
+                } else {
+                  future.complete(mock(DeleteAclsResult.FilterResults.class));
+                }
+                values.put(filter, future);
+              }
+              DeleteAclsResult result = mock(DeleteAclsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            });
+
+    Set<TopologyAclBinding> removed =
+        new SimpleAclsProvider(adminClient).clearBindings(new HashSet<>(bindings));
+
+    verify(kafkaAdminClient, times(1)).deleteAcls(anyCollection());
+    assertThat(removed).hasSize(4).doesNotContain(failedBinding);
+
+    Map<TopologyAclBinding, Throwable> failures = adminClient.clearAcls(bindings, 2, 2);
+
+    verify(kafkaAdminClient, times(4)).deleteAcls(anyCollection());
+    assertThat(failures).containsOnlyKeys(failedBinding);
+  }
 }
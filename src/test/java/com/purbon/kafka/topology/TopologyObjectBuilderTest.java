@@ -1,21 +1,30 @@
 package com.purbon.kafka.topology;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 
 import com.purbon.kafka.topology.exceptions.TopologyParsingException;
+import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.utils.TestUtils;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class TopologyObjectBuilderTest {
 
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
   @Test
   public void buildTopicNameTest() throws IOException {
     String fileOrDirPath = TestUtils.getResourceFilename("/dir");
@@ -72,4 +81,68 @@ public class TopologyObjectBuilderTest {
     String dirPath = TestUtils.getResourceFilename("/errors_dir");
     TopologyObjectBuilder.build(dirPath);
   }
+
+  @Test
+  public void shouldMergeTheFilesOfADirectoryInOrder() throws IOException {
+    Path dir = folder.newFolder("topologies").toPath();
+    for (int i = 0; i < 12; i++) {
+      Files.writeString(dir.resolve(String.format("descriptor-%02d.yaml", i)), descriptor("p" + i));
+    }
+
+    Topology topology = TopologyObjectBuilder.build(dir.toString());
+
+    assertThat(topology.getProjects())
+        .extracting(Project::getName)
+        .containsExactly("p0", "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9", "p10", "p11");
+  }
+
+  @Test
+  public void shouldReportTheErrorsOfEveryFile() throws IOException {
+    Path dir = folder.newFolder("topologies").toPath();
+    Files.writeString(dir.resolve("a.yaml"), descriptor("a"));
+    Files.writeString(dir.resolve("b.yaml"), "context: [");
+    Files.writeString(dir.resolve("c.yaml"), "context: [");
+
+    assertThatThrownBy(() -> TopologyObjectBuilder.build(dir.toString()))
+        .isInstanceOf(TopologyParsingException.class)
+        .hasMessageContaining("b.yaml")
+        .hasMessageContaining("c.yaml");
+  }
+
+  @Test
+  public void shouldReuseTheTreesOfUnchangedFiles() throws IOException {
+    Path dir = folder.newFolder("topologies").toPath();
+    Files.writeString(dir.resolve("a.yaml"), descriptor("a"));
+    Files.writeString(dir.resolve("b.yaml"), descriptor("b"));
+    Path cacheDir = folder.newFolder("cache").toPath();
+    Map<String, Object> props = new HashMap<>();
+    props.put(Constants.STATE_CACHE_DIR_CONFIG, cacheDir.toString());
+    Configuration config = new Configuration(new HashMap<>(), props);
+
+    Topology topology = TopologyObjectBuilder.build(dir.toString(), config);
+    assertThat(topology.getProjects()).extracting(Project::getName).containsExactly("a", "b");
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      assertThat(files.count()).isEqualTo(1);
+    }
+
+    topology = TopologyObjectBuilder.build(dir.toString(), config);
+    assertThat(topology.getProjects()).extracting(Project::getName).containsExactly("a", "b");
+    assertThat(topology.getProjects().get(1).getTopics())
+        .extracting(Topic::getName)
+        .containsExactly("foo");
+
+    Files.writeString(dir.resolve("b.yaml"), descriptor("c"));
+    topology = TopologyObjectBuilder.build(dir.toString(), config);
+    assertThat(topology.getProjects()).extracting(Project::getName).containsExactly("a", "c");
+  }
+
+  private static String descriptor(String project) {
+    return "context: \"contextOrg\"\n"
+        + "projects:\n"
+        + "  - name: \""
+        + project
+        + "\"\n"
+        + "    topics:\n"
+        + "      - name: \"foo\"\n";
+  }
 }
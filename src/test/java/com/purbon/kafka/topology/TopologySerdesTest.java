@@ -73,6 +73,21 @@ public class TopologySerdesTest {
     assertEquals("contextOrg.source.foo", anotherProject.namePrefix());
   }
 
+  @Test
+  public void testProjectsBeforeFirstLevelAttributes() {
+    Topology topology =
+        parser.deserialise(TestUtils.getResourceFile("/descriptor-with-projects-first.yml"));
+
+    assertThat(topology.getContext()).isEqualTo("contextOrg");
+    assertThat(topology.getOrder()).containsExactly("source", "foo");
+    assertThat(topology.getProjects()).hasSize(2);
+    assertThat(topology.getProjects().get(0).getConsumers()).hasSize(1);
+    assertThat(topology.getProjects().get(0).getTopics().get(0).toString())
+        .isEqualTo("contextOrg.source.foo.foo.foo");
+    assertThat(topology.getProjects().get(1).getTopics().get(0).toString())
+        .isEqualTo("contextOrg.source.foo.bar.bar");
+  }
+
   @Test(expected = TopologyParsingException.class)
   public void testFileWithoutTopicsError() {
     parser.deserialise(TestUtils.getResourceFile("/descriptor-without-topics.yml"));
@@ -0,0 +1,100 @@
+package com.purbon.kafka.topology.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ActionGraphExecutorTest {
+
+  private final ActionGraphExecutor executor = new ActionGraphExecutor(4);
+
+  @Test
+  public void schemasWaitForTheirTopic() throws IOException {
+    CreateTopicAction createTopic = mock(CreateTopicAction.class);
+    when(createTopic.getTopic()).thenReturn("topicA");
+    RegisterSchemaAction registerSchema = mock(RegisterSchemaAction.class);
+    when(registerSchema.getTopic()).thenReturn("topicA");
+
+    List<Action> completed = new CopyOnWriteArrayList<>();
+    executor.run(
+        Arrays.asList(createTopic, registerSchema),
+        action -> {
+          if (action == createTopic) {
+            sleep();
+          }
+          completed.add(action);
+        });
+
+    assertThat(completed).containsExactly(createTopic, registerSchema);
+  }
+
+  @Test
+  public void independentActionsRunConcurrently() throws IOException {
+    CreateArtefactAction connectorA = mock(CreateArtefactAction.class);
+    when(connectorA.getClient()).thenReturn(mock(ArtefactClient.class));
+    CreateArtefactAction connectorB = mock(CreateArtefactAction.class);
+    when(connectorB.getClient()).thenReturn(mock(ArtefactClient.class));
+
+    CountDownLatch latch = new CountDownLatch(2);
+    List<Boolean> concurrent = new CopyOnWriteArrayList<>();
+    executor.run(
+        Arrays.asList(connectorA, connectorB),
+        action -> {
+          latch.countDown();
+          try {
+            concurrent.add(latch.await(5, TimeUnit.SECONDS));
+          } catch (InterruptedException e) {
+            throw new IOException(e);
+          }
+        });
+
+    assertThat(concurrent).containsExactly(true, true);
+  }
+
+  @Test
+  public void noActionStartsAfterAFailure() throws IOException {
+    DeleteTopics deleteTopics = mock(DeleteTopics.class);
+    doThrow(new IOException("failed")).when(deleteTopics).run();
+    CreateTopicAction createTopic = mock(CreateTopicAction.class);
+    when(createTopic.getTopic()).thenReturn("topicA");
+
+    IOException ex =
+        assertThrows(
+            IOException.class,
+            () -> executor.run(Arrays.asList(deleteTopics, createTopic), Action::run));
+
+    assertThat(ex).hasMessage("failed");
+    verify(deleteTopics, times(1)).run();
+    verify(createTopic, times(0)).run();
+  }
+
+  @Test
+  public void emptyPlan() throws IOException {
+    executor.run(Collections.emptyList(), Action::run);
+  }
+
+  private void sleep() throws IOException {
+    try {
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.purbon.kafka.topology.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.ExecutionState;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CreateArtefactBatchActionTest {
+
+  @Mock ArtefactClient client;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Artefact riders;
+  private Artefact enriched;
+  private Artefact orders;
+
+  @Before
+  public void before() throws IOException {
+    riders = artefact("riders");
+    enriched = artefact("enriched");
+    orders = artefact("orders");
+  }
+
+  @Test
+  public void shouldCreateEveryBatchInOrder() throws IOException {
+    CreateArtefactBatchAction action =
+        new CreateArtefactBatchAction(
+            client,
+            folder.getRoot().getAbsolutePath(),
+            List.of(List.of(riders, enriched), List.of(orders)),
+            2);
+
+    action.run();
+    ExecutionState state = new ExecutionState();
+    action.applyTo(state);
+
+    InOrder inOrder = inOrder(client);
+    inOrder.verify(client).add("riders");
+    inOrder.verify(client).add("enriched");
+    assertThat(state.getKSqlStreams()).hasSize(3);
+  }
+
+  @Test
+  public void shouldStopABatchAfterAFailure() throws IOException {
+    when(client.add(anyString())).thenThrow(new IOException("riders failed"));
+
+    CreateArtefactBatchAction action =
+        new CreateArtefactBatchAction(
+            client, folder.getRoot().getAbsolutePath(), List.of(List.of(riders, enriched)), 2);
+
+    assertThatThrownBy(action::run)
+        .isInstanceOf(PartialFailureException.class)
+        .hasMessageContaining("[riders]");
+    verify(client, never()).add("enriched");
+    ExecutionState state = new ExecutionState();
+    action.applyTo(state);
+    assertThat(state.getKSqlStreams()).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepTheArtefactsCreatedBeforeAFailure() throws IOException {
+    when(client.add("enriched")).thenThrow(new IOException("enriched failed"));
+
+    CreateArtefactBatchAction action =
+        new CreateArtefactBatchAction(
+            client,
+            folder.getRoot().getAbsolutePath(),
+            List.of(List.of(riders, enriched), List.of(orders)),
+            2);
+
+    assertThatThrownBy(action::run)
+        .isInstanceOf(PartialFailureException.class)
+        .hasMessageContaining("[enriched]");
+    ExecutionState state = new ExecutionState();
+    action.applyTo(state);
+    assertThat(state.getKSqlStreams())
+        .extracting(Artefact::getName)
+        .containsExactlyInAnyOrder("riders", "orders");
+  }
+
+  private Artefact artefact(String name) throws IOException {
+    Files.writeString(folder.getRoot().toPath().resolve(name + ".sql"), name);
+    return new KsqlStreamArtefact(name + ".sql", null, name);
+  }
+}
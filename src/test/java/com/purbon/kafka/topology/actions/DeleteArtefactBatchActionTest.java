@@ -0,0 +1,48 @@
+package com.purbon.kafka.topology.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.purbon.kafka.topology.ExecutionState;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.exceptions.PartialFailureException;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class DeleteArtefactBatchActionTest {
+
+  @Mock ArtefactClient client;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  private final KsqlStreamArtefact riders = new KsqlStreamArtefact("riders.sql", null, "riders");
+  private final KsqlStreamArtefact enriched =
+      new KsqlStreamArtefact("enriched.sql", null, "enriched");
+  private final KsqlStreamArtefact orders = new KsqlStreamArtefact("orders.sql", null, "orders");
+
+  @Test
+  public void shouldOnlyRemoveTheDeletedArtefactsFromTheState() throws IOException {
+    doThrow(new IOException("enriched failed")).when(client).delete("enriched", "STREAM");
+
+    DeleteArtefactBatchAction action =
+        new DeleteArtefactBatchAction(client, List.of(orders, enriched, riders));
+    ExecutionState state = new ExecutionState();
+    state.addKSqlStreams(List.of(riders, enriched, orders));
+
+    assertThatThrownBy(action::run)
+        .isInstanceOf(PartialFailureException.class)
+        .hasMessageContaining("[enriched]");
+    verify(client).delete("riders", "STREAM");
+    action.applyTo(state);
+
+    assertThat(state.getKSqlStreams()).containsExactly(enriched);
+  }
+}
@@ -0,0 +1,50 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class RegisterSchemaBatchActionTest {
+
+  @Test
+  public void shouldRegisterEveryTopicAndReportTheFailures() throws IOException {
+    RegisterSchemaAction foo = action("foo");
+    RegisterSchemaAction bar = action("bar");
+    RegisterSchemaAction zet = action("zet");
+    doThrow(new RuntimeException("Failed to register the schema for subject 'bar-value'"))
+        .when(bar)
+        .run();
+
+    RegisterSchemaBatchAction action = new RegisterSchemaBatchAction(List.of(foo, bar, zet), 2);
+
+    assertThatThrownBy(action::run).isInstanceOf(IOException.class).hasMessageContaining("[bar]");
+    verify(foo).run();
+    verify(bar).run();
+    verify(zet).run();
+  }
+
+  @Test
+  public void shouldRunSequentiallyWithAParallelismOfOne() throws IOException {
+    RegisterSchemaAction foo = action("foo");
+    RegisterSchemaAction bar = action("bar");
+
+    new RegisterSchemaBatchAction(List.of(foo, bar), 1).run();
+
+    verify(foo).run();
+    verify(bar).run();
+  }
+
+  private RegisterSchemaAction action(String topic) {
+    RegisterSchemaAction action = mock(RegisterSchemaAction.class);
+    when(action.getTopic()).thenReturn(topic);
+    when(action.getRegisteredSubjects()).thenReturn(Collections.singletonList(topic + "-value"));
+    return action;
+  }
+}
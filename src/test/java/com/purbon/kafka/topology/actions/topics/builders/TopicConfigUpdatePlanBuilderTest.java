@@ -1,45 +1,48 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.doReturn;
 
 import com.purbon.kafka.topology.TopicManager;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
-import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.api.adminclient.ClusterTopicSnapshot;
 import com.purbon.kafka.topology.model.Impl.TopicImpl;
 import com.purbon.kafka.topology.model.Topic;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.common.config.TopicConfig;
-import org.junit.Rule;
+import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnit;
-import org.mockito.junit.MockitoRule;
 
 public class TopicConfigUpdatePlanBuilderTest {
 
   private static final String TOPIC_NAME = "foo";
   public static final String DEFAULT_RETENTION_MS = "604800000";
-  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
 
-  @Mock private TopologyBuilderAdminClient adminClient;
+  private Map<String, Config> configs;
+  private Map<String, Integer> partitionCounts;
+
+  @Before
+  public void setup() {
+    configs = new HashMap<>();
+    partitionCounts = new HashMap<>();
+    partitionCounts.put(TOPIC_NAME, 1);
+  }
 
   @Test
   public void shouldNotChangeConfigWhenNoConfig() {
-    doReturn(createEmptyConfig()).when(adminClient).getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createEmptyConfig());
     var topic = createTopic();
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
   }
 
   @Test
-  public void shouldUpdatePartitionCountWhenHigherThanCurrent() throws IOException {
-    doReturn(createEmptyConfig()).when(adminClient).getActualTopicConfig(TOPIC_NAME);
-    doReturn(3).when(adminClient).getPartitionCount(TOPIC_NAME);
+  public void shouldUpdatePartitionCountWhenHigherThanCurrent() {
+    configs.put(TOPIC_NAME, createEmptyConfig());
+    partitionCounts.put(TOPIC_NAME, 3);
     var topic = createTopic(TopicManager.NUM_PARTITIONS, "5");
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
@@ -47,9 +50,9 @@ public class TopicConfigUpdatePlanBuilderTest {
   }
 
   @Test
-  public void shouldNotUpdatePartitionCountWhenLowerThanCurrent() throws IOException {
-    doReturn(createEmptyConfig()).when(adminClient).getActualTopicConfig(TOPIC_NAME);
-    doReturn(3).when(adminClient).getPartitionCount(TOPIC_NAME);
+  public void shouldNotUpdatePartitionCountWhenLowerThanCurrent() {
+    configs.put(TOPIC_NAME, createEmptyConfig());
+    partitionCounts.put(TOPIC_NAME, 3);
     var topic = createTopic(TopicManager.NUM_PARTITIONS, "2");
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
@@ -58,7 +61,7 @@ public class TopicConfigUpdatePlanBuilderTest {
 
   @Test
   public void shouldAddNewConfigForRetention() {
-    doReturn(createDefaultRetentionConfig()).when(adminClient).getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createDefaultRetentionConfig());
     var topic = createTopic(TopicConfig.RETENTION_MS_CONFIG, "1000");
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 1, 0, 0);
@@ -66,9 +69,7 @@ public class TopicConfigUpdatePlanBuilderTest {
 
   @Test
   public void shouldAddNewConfigForRetentionWhenAlreadySetByBroker() {
-    doReturn(createBrokerOverriddenRetentionConfig())
-        .when(adminClient)
-        .getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createBrokerOverriddenRetentionConfig());
     var topic = createTopic(TopicConfig.RETENTION_MS_CONFIG, "1000");
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 1, 0, 0);
@@ -76,9 +77,7 @@ public class TopicConfigUpdatePlanBuilderTest {
 
   @Test
   public void shouldUpdateConfigForRetention() {
-    doReturn(createAlreadyOverriddenRetentionConfig())
-        .when(adminClient)
-        .getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createAlreadyOverriddenRetentionConfig());
     var topic = createTopic(TopicConfig.RETENTION_MS_CONFIG, "1000");
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 1, 0);
@@ -86,9 +85,7 @@ public class TopicConfigUpdatePlanBuilderTest {
 
   @Test
   public void shouldDeleteConfigForRetention() {
-    doReturn(createAlreadyOverriddenRetentionConfig())
-        .when(adminClient)
-        .getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createAlreadyOverriddenRetentionConfig());
     var topic = createTopic();
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 1);
@@ -96,19 +93,24 @@ public class TopicConfigUpdatePlanBuilderTest {
 
   @Test
   public void shouldNotDeleteConfigForRetentionWhenSetByBroker() {
-    doReturn(createBrokerOverriddenRetentionConfig())
-        .when(adminClient)
-        .getActualTopicConfig(TOPIC_NAME);
+    configs.put(TOPIC_NAME, createBrokerOverriddenRetentionConfig());
     var topic = createTopic();
     var plan = getTopicConfigUpdatePlan(topic);
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
   }
 
   private TopicConfigUpdatePlan getTopicConfigUpdatePlan(Topic topic) {
-    var builder = new TopicConfigUpdatePlanBuilder(adminClient);
+    var builder =
+        new TopicConfigUpdatePlanBuilder(new ClusterTopicSnapshot(configs, partitionCounts));
     return builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
   }
 
+  @Test(expected = RuntimeException.class)
+  public void shouldFailWhenTopicIsNotPartOfTheClusterState() {
+    var topic = createTopic();
+    getTopicConfigUpdatePlan(topic);
+  }
+
   private Topic createTopic(String configName, String configValue) {
     var config = new HashMap<String, String>();
     config.put(configName, configValue);
@@ -0,0 +1,76 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Config;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ClusterTopicSnapshotTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+
+  @Before
+  public void setup() throws IOException {
+    when(adminClient.getActualTopicConfigs(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> topics = invocation.getArgument(0);
+              return topics.stream()
+                  .collect(
+                      Collectors.toMap(
+                          topic -> topic, topic -> new Config(Collections.emptyList())));
+            });
+    when(adminClient.getPartitionCounts(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> topics = invocation.getArgument(0);
+              return topics.stream().collect(Collectors.toMap(topic -> topic, topic -> 6));
+            });
+  }
+
+  @Test
+  public void shouldLoadTheTopicStateInBatches() throws IOException {
+    List<String> topics = Arrays.asList("topicA", "topicB", "topicC", "topicD", "topicE");
+
+    ClusterTopicSnapshot snapshot = ClusterTopicSnapshot.load(adminClient, topics, 2, 2);
+
+    verify(adminClient, times(3)).getActualTopicConfigs(anyCollection());
+    verify(adminClient, times(3)).getPartitionCounts(anyCollection());
+    for (String topic : topics) {
+      assertThat(snapshot.getConfig(topic).entries()).isEmpty();
+      assertThat(snapshot.getPartitionCount(topic)).isEqualTo(6);
+    }
+  }
+
+  @Test
+  public void shouldNotCallTheClusterWithoutTopics() throws IOException {
+    ClusterTopicSnapshot.load(adminClient, Collections.emptyList(), 2, 2);
+
+    verify(adminClient, times(0)).getActualTopicConfigs(anyCollection());
+    verify(adminClient, times(0)).getPartitionCounts(anyCollection());
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRaiseWhenTheTopicIsUnknown() throws IOException {
+    ClusterTopicSnapshot snapshot =
+        ClusterTopicSnapshot.load(adminClient, Collections.singletonList("topicA"), 2, 2);
+    snapshot.getPartitionCount("topicB");
+  }
+}
@@ -0,0 +1,59 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CCloudCLITest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldParseTheCommandOutput() throws IOException {
+    CCloudCLI cli =
+        cli("echo '[{\"id\": 1, \"name\": \"User:foo\", \"description\": \"foo\"}]'", 0);
+
+    Map<String, ServiceAccount> accounts = cli.serviceAccounts();
+
+    assertThat(accounts).containsOnlyKeys("User:foo");
+    assertThat(accounts.get("User:foo").getId()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReportTheOutputOfAFailedCommand() throws IOException {
+    CCloudCLI cli = cli("echo 'You must log in to run that command.' >&2", 1);
+
+    assertThatThrownBy(cli::serviceAccounts)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("service-account list --output json")
+        .hasMessageContaining("exited with code 1")
+        .hasMessageContaining("You must log in to run that command.");
+  }
+
+  @Test
+  public void shouldReportTheExitCodeOfACommandWithoutOutput() throws IOException {
+    CCloudCLI cli = cli("echo 'Error: environment not found'", 2);
+
+    assertThatThrownBy(() -> cli.setEnvironment("env-1"))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("environment use env-1")
+        .hasMessageContaining("exited with code 2")
+        .hasMessageContaining("Error: environment not found");
+  }
+
+  /** A stand-in for the ccloud executable, that prints the same output for every command. */
+  private CCloudCLI cli(String output, int exitCode) throws IOException {
+    File script = folder.newFile("ccloud");
+    Files.writeString(script.toPath(), "#!/bin/sh\n" + output + "\nexit " + exitCode + "\n");
+    assertThat(script.setExecutable(true)).isTrue();
+    return new CCloudCLI(script.getAbsolutePath());
+  }
+}
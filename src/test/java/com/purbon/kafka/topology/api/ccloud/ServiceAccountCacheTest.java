@@ -0,0 +1,60 @@
+package com.purbon.kafka.topology.api.ccloud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ServiceAccountCacheTest {
+
+  @Mock CCloudCLI cli;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  private ServiceAccountCache cache;
+
+  @Before
+  public void before() throws IOException {
+    Map<String, ServiceAccount> accounts = new HashMap<>();
+    accounts.put("User:foo", new ServiceAccount(1, "User:foo", "foo"));
+    when(cli.serviceAccounts()).thenReturn(accounts);
+    cache = new ServiceAccountCache(cli);
+  }
+
+  @Test
+  public void shouldListTheServiceAccountsOnce() throws IOException {
+    assertThat(cache.byName()).containsOnlyKeys("User:foo");
+    assertThat(cache.byId()).containsOnlyKeys(1);
+    assertThat(cache.findByName("User:foo")).isPresent();
+
+    verify(cli, times(1)).serviceAccounts();
+  }
+
+  @Test
+  public void shouldKeepTheIndexesUpToDate() throws IOException {
+    when(cli.newServiceAccount("User:bar", "bar"))
+        .thenReturn(new ServiceAccount(2, "User:bar", "bar"));
+
+    cache.byName();
+    cache.create("User:bar", "bar");
+    assertThat(cache.byId()).containsOnlyKeys(1, 2);
+
+    cache.delete("User:foo");
+    verify(cli).deleteServiceAccount(1);
+    assertThat(cache.byName()).containsOnlyKeys("User:bar");
+    assertThat(cache.byId()).containsOnlyKeys(2);
+
+    verify(cli, times(1)).serviceAccounts();
+  }
+}
@@ -0,0 +1,57 @@
+package com.purbon.kafka.topology.api.connect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.backend.StateCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConnectorConfigIndexTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldHashTheFileConfigAsTheClusterConfig() throws IOException {
+    Path file = folder.newFile("connector.json").toPath();
+    Files.writeString(file, "{\"name\":\"foo\",\"config\":{\"topic\":\"bar\",\"tasks.max\":1}}");
+
+    Map<String, String> clusterConfig = new HashMap<>();
+    clusterConfig.put("tasks.max", "1");
+    clusterConfig.put("name", "foo");
+    clusterConfig.put("topic", "bar");
+
+    ConnectorConfigIndex index = new ConnectorConfigIndex(new StateCache(null));
+
+    assertThat(index.configHash(file)).isEqualTo(ConnectorConfigIndex.configHash(clusterConfig));
+
+    clusterConfig.put("topic", "zet");
+    assertThat(index.configHash(file)).isNotEqualTo(ConnectorConfigIndex.configHash(clusterConfig));
+  }
+
+  @Test
+  public void shouldNotReadUnchangedFilesAgain() throws IOException {
+    StateCache cache = new StateCache(folder.newFolder("cache").toPath());
+    Path file = folder.newFile("connector.json").toPath();
+    Files.writeString(file, "{\"name\":\"foo\",\"config\":{\"topic\":\"bar\"}}");
+    FileTime modified = Files.getLastModifiedTime(file);
+
+    ConnectorConfigIndex index = new ConnectorConfigIndex(cache);
+    String hash = index.configHash(file);
+    index.save();
+
+    // same size and modification time, the index keeps the known hash
+    Files.writeString(file, "{\"name\":\"foo\",\"config\":{\"topic\":\"zet\"}}");
+    Files.setLastModifiedTime(file, modified);
+    assertThat(new ConnectorConfigIndex(cache).configHash(file)).isEqualTo(hash);
+
+    Files.writeString(file, "{\"name\":\"foo\",\"config\":{\"topic\":\"zeta\"}}");
+    assertThat(new ConnectorConfigIndex(cache).configHash(file)).isNotEqualTo(hash);
+  }
+}
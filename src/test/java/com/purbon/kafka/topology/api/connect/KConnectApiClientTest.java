@@ -0,0 +1,92 @@
+package com.purbon.kafka.topology.api.connect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KConnectApiClientTest {
+
+  private HttpServer server;
+  private String query;
+  private String method;
+  private String path;
+  private String requestBody;
+  private String responseBody;
+  private KConnectApiClient client;
+
+  @Before
+  public void before() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/connectors",
+        exchange -> {
+          query = exchange.getRequestURI().getQuery();
+          method = exchange.getRequestMethod();
+          path = exchange.getRequestURI().getPath();
+          requestBody =
+              new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+          byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+    server.start();
+    client = new KConnectApiClient("http://localhost:" + server.getAddress().getPort());
+  }
+
+  @After
+  public void after() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldDescribeTheConnectorsInASingleRequest() throws IOException {
+    responseBody =
+        "{\"file-source\":{"
+            + "\"info\":{\"name\":\"file-source\",\"config\":{\"tasks.max\":\"1\",\"topic\":\"foo\"},"
+            + "\"tasks\":[{\"connector\":\"file-source\",\"task\":0}],\"type\":\"source\"},"
+            + "\"status\":{\"name\":\"file-source\",\"connector\":{\"state\":\"RUNNING\",\"worker_id\":\"w1\"},"
+            + "\"tasks\":[{\"id\":0,\"state\":\"FAILED\",\"worker_id\":\"w1\"}],\"type\":\"source\"}}}";
+
+    List<ConnectorInfo> connectors = client.describe();
+
+    assertThat(query).isEqualTo("expand=status&expand=info");
+    assertThat(connectors).hasSize(1);
+    ConnectorInfo info = connectors.get(0);
+    assertThat(info.getName()).isEqualTo("file-source");
+    assertThat(info.getType()).isEqualTo("source");
+    assertThat(info.getConfig()).containsEntry("topic", "foo");
+    assertThat(info.getState()).isEqualTo("RUNNING");
+    assertThat(info.getTaskStates()).containsExactly("FAILED");
+  }
+
+  @Test
+  public void shouldDescribeTheConnectorsOfClustersWithoutExpand() throws IOException {
+    responseBody = "[\"file-source\",\"file-sink\"]";
+
+    List<ConnectorInfo> connectors = client.describe();
+
+    assertThat(connectors).extracting(ConnectorInfo::getName).contains("file-source", "file-sink");
+    assertThat(connectors.get(0).getConfig()).isEmpty();
+  }
+
+  @Test
+  public void shouldUpdateTheConnectorConfig() throws IOException {
+    responseBody = "{}";
+
+    client.update("foo", "{\"name\":\"foo\",\"config\":{\"topic\":\"bar\"}}");
+
+    assertThat(method).isEqualTo("PUT");
+    assertThat(path).isEqualTo("/connectors/foo/config");
+    assertThat(requestBody).isEqualTo("{\"topic\":\"bar\"}");
+  }
+}
@@ -0,0 +1,65 @@
+package com.purbon.kafka.topology.api.ksql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class KsqlDependencyGraphTest {
+
+  private final Artefact riders = new KsqlStreamArtefact("riders.sql", null, "riders");
+  private final Artefact users = new KsqlTableArtefact("users.sql", null, "users");
+  private final Artefact enriched = new KsqlStreamArtefact("enriched.sql", null, "enriched");
+  private final Artefact counts = new KsqlTableArtefact("counts.sql", null, "counts");
+  private final Artefact orders = new KsqlStreamArtefact("orders.sql", null, "orders");
+
+  @Test
+  public void shouldParseTheCreatedNameAndTheSources() {
+    String sql =
+        "-- reads FROM comments\n"
+            + "CREATE OR REPLACE STREAM IF NOT EXISTS `Enriched` AS SELECT * FROM riders r "
+            + "LEFT JOIN users u ON r.id = u.id WHERE r.region <> 'from somewhere' EMIT CHANGES;";
+
+    assertThat(KsqlDependencyGraph.createdName(sql)).isEqualTo("Enriched");
+    assertThat(KsqlDependencyGraph.sources(sql)).containsExactly("RIDERS", "USERS");
+  }
+
+  @Test
+  public void shouldBatchDependentArtefactsInCreationOrder() {
+    Map<Artefact, String> statements = new LinkedHashMap<>();
+    statements.put(counts, "CREATE TABLE counts AS SELECT id, COUNT(*) FROM enriched GROUP BY id;");
+    statements.put(
+        enriched,
+        "CREATE STREAM enriched AS SELECT * FROM riders JOIN users ON riders.id = users.id;");
+    statements.put(riders, "CREATE STREAM riders (id VARCHAR) WITH (kafka_topic='riders');");
+    statements.put(users, "CREATE TABLE users (id VARCHAR PRIMARY KEY) WITH (kafka_topic='u');");
+    statements.put(orders, "CREATE STREAM orders (id VARCHAR) WITH (kafka_topic='orders');");
+
+    List<List<Artefact>> batches = new KsqlDependencyGraph(statements).createBatches();
+
+    assertThat(batches).hasSize(2);
+    List<Artefact> batch = batches.stream().filter(b -> b.size() == 4).findFirst().get();
+    assertThat(batch.indexOf(riders)).isLessThan(batch.indexOf(enriched));
+    assertThat(batch.indexOf(users)).isLessThan(batch.indexOf(enriched));
+    assertThat(batch.indexOf(enriched)).isLessThan(batch.indexOf(counts));
+    assertThat(batches).contains(List.of(orders));
+  }
+
+  @Test
+  public void shouldDropDependentArtefactsFirst() {
+    Map<Artefact, String> statements = new LinkedHashMap<>();
+    statements.put(riders, "CREATE STREAM riders (id VARCHAR) WITH (kafka_topic='riders');");
+    statements.put(enriched, "CREATE STREAM enriched AS SELECT * FROM riders;");
+    statements.put(counts, null);
+
+    List<Artefact> order = new KsqlDependencyGraph(statements).dropOrder();
+
+    assertThat(order).containsExactlyInAnyOrder(riders, enriched, counts);
+    assertThat(order.indexOf(enriched)).isLessThan(order.indexOf(riders));
+  }
+}
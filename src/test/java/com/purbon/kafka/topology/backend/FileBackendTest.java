@@ -1,10 +1,13 @@
 package com.purbon.kafka.topology.backend;
 
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+import static com.purbon.kafka.topology.Constants.STATE_CODEC_CONFIG;
+import static com.purbon.kafka.topology.Constants.STATE_COMPRESSION_CONFIG;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.BackendController.Mode;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.TestTopologyBuilder;
 import com.purbon.kafka.topology.api.mds.ClusterIDs;
 import com.purbon.kafka.topology.api.mds.RequestScope;
@@ -18,6 +21,8 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Properties;
 import java.util.Set;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.resource.PatternType;
@@ -93,6 +98,27 @@ public class FileBackendTest {
     assertThat(backend.getAccounts()).hasSize(0);
   }
 
+  @Test
+  public void shouldMigrateAJsonStateFileToTheConfiguredFormat() throws IOException {
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton("foo"));
+    Files.writeString(Paths.get(STATE_FILE_NAME), state.asJson() + "\n");
+
+    Properties props = new Properties();
+    props.put(STATE_CODEC_CONFIG, "binary");
+    props.put(STATE_COMPRESSION_CONFIG, "gzip");
+    backend.configure(new Configuration(new HashMap<>(), props));
+
+    BackendState loaded = backend.load();
+    backend.createOrOpen(Mode.TRUNCATE);
+    backend.save(loaded);
+    backend.close();
+
+    byte[] content = Files.readAllBytes(Paths.get(STATE_FILE_NAME));
+    assertThat(content[0]).isNotEqualTo((byte) '{');
+    assertThat(new FileBackend().load().getTopics()).containsOnly("foo");
+  }
+
   private void verifyStoreAndLoadWithPrincipal(final String principal) throws IOException {
     TopologyAclBinding binding =
         TopologyAclBinding.build(
@@ -0,0 +1,150 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.JULIE_GCP_BUCKET;
+import static com.purbon.kafka.topology.Constants.JULIE_GCP_PROJECT_ID;
+import static com.purbon.kafka.topology.Constants.STATE_CACHE_DIR_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class GCPBackendTest {
+
+  private static final String BUCKET = "bucket";
+
+  @Mock Storage storage;
+
+  @Mock Blob blob;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Configuration config;
+  private GCPBackend backend;
+
+  @Before
+  public void before() {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(JULIE_GCP_PROJECT_ID, "project");
+    props.put(JULIE_GCP_BUCKET, BUCKET);
+    props.put(STATE_CACHE_DIR_CONFIG, folder.getRoot().getAbsolutePath());
+    config = new Configuration(cliOps, props);
+
+    backend = new GCPBackend(storage);
+    backend.configure(config);
+  }
+
+  @Test
+  public void shouldOnlyCreateTheStateIfItDoesNotExist() throws IOException {
+    when(storage.get(any(BlobId.class), any(Storage.BlobGetOption.class))).thenReturn(null);
+    when(storage.create(
+            any(BlobInfo.class),
+            any(byte[].class),
+            any(Storage.BlobTargetOption.class),
+            any(Storage.BlobTargetOption.class)))
+        .thenReturn(blob);
+
+    assertThat(backend.load().getTopics()).isEmpty();
+    backend.save(state("foo"));
+
+    verify(storage)
+        .create(
+            any(BlobInfo.class),
+            any(byte[].class),
+            eq(Storage.BlobTargetOption.detectContentType()),
+            eq(Storage.BlobTargetOption.doesNotExist()));
+  }
+
+  @Test
+  public void shouldOnlyOverwriteTheGenerationThatWasLoaded() throws IOException {
+    givenTheRemoteState(state("foo"), 5L);
+    when(storage.create(
+            any(BlobInfo.class),
+            any(byte[].class),
+            any(Storage.BlobTargetOption.class),
+            any(Storage.BlobTargetOption.class)))
+        .thenReturn(blob);
+
+    assertThat(backend.load().getTopics()).containsOnly("foo");
+    backend.save(state("bar"));
+
+    ArgumentCaptor<BlobInfo> blobInfo = ArgumentCaptor.forClass(BlobInfo.class);
+    verify(storage)
+        .create(
+            blobInfo.capture(),
+            any(byte[].class),
+            eq(Storage.BlobTargetOption.detectContentType()),
+            eq(Storage.BlobTargetOption.generationMatch()));
+    assertThat(blobInfo.getValue().getBlobId().getGeneration()).isEqualTo(5L);
+  }
+
+  @Test
+  public void shouldFailWhenTheStateWasChangedByOthers() throws IOException {
+    givenTheRemoteState(state("foo"), 5L);
+    when(storage.create(
+            any(BlobInfo.class),
+            any(byte[].class),
+            any(Storage.BlobTargetOption.class),
+            any(Storage.BlobTargetOption.class)))
+        .thenThrow(new StorageException(412, "Precondition Failed"));
+
+    backend.load();
+
+    assertThatThrownBy(() -> backend.save(state("bar")))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("changed by another process");
+  }
+
+  @Test
+  public void shouldLoadAnUnchangedStateFromTheLocalCopy() throws IOException {
+    givenTheRemoteState(state("foo"), 5L);
+
+    assertThat(backend.load().getTopics()).containsOnly("foo");
+    GCPBackend newBackend = new GCPBackend(storage);
+    newBackend.configure(config);
+    assertThat(newBackend.load().getTopics()).containsOnly("foo");
+
+    verify(storage, times(1)).readAllBytes(any(BlobId.class));
+  }
+
+  private void givenTheRemoteState(BackendState state, long generation) throws IOException {
+    when(blob.getGeneration()).thenReturn(generation);
+    when(storage.get(any(BlobId.class), any(Storage.BlobGetOption.class))).thenReturn(blob);
+    when(storage.readAllBytes(BlobId.of(BUCKET, STATE_FILE_NAME, generation)))
+        .thenReturn(StateFormat.from(config).encode(state));
+  }
+
+  private BackendState state(String topic) {
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton(topic));
+    return state;
+  }
+}
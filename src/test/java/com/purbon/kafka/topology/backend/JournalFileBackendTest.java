@@ -0,0 +1,116 @@
+package com.purbon.kafka.topology.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JournalFileBackendTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path snapshotPath;
+  private Path journalPath;
+
+  @Before
+  public void setup() {
+    snapshotPath = folder.getRoot().toPath().resolve(".cluster-state");
+    journalPath = Paths.get(snapshotPath + JournalFileBackend.JOURNAL_FILE_SUFFIX);
+  }
+
+  @Test
+  public void shouldAppendOnlyTheChanges() throws IOException {
+    saveTopics(10, "topicA", "topicB");
+    saveTopics(10, "topicB", "topicC");
+    saveTopics(10, "topicB", "topicC");
+
+    assertThat(Files.exists(snapshotPath)).isFalse();
+    assertThat(journalLines()).hasSize(2);
+    assertThat(loadTopics(10)).containsOnly("topicB", "topicC");
+  }
+
+  @Test
+  public void shouldCompactAfterTheThreshold() throws IOException {
+    saveTopics(2, "topicA");
+    saveTopics(2, "topicA", "topicB");
+
+    assertThat(journalLines()).isEmpty();
+    assertThat(Files.readAllLines(snapshotPath)).hasSize(1);
+    assertThat(loadTopics(2)).containsOnly("topicA", "topicB");
+  }
+
+  @Test
+  public void shouldReadAnExistingStateFile() throws IOException {
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton("topicA"));
+    state.addBindings(
+        Collections.singleton(
+            new TopologyAclBinding("TOPIC", "topicA", "*", "READ", "User:foo", "LITERAL")));
+    Files.write(snapshotPath, (state.asJson() + "\n").getBytes(StandardCharsets.UTF_8));
+
+    JournalFileBackend backend = new JournalFileBackend(snapshotPath, 10);
+    BackendState loaded = backend.load();
+
+    assertThat(loaded.getTopics()).containsOnly("topicA");
+    assertThat(loaded.getBindings()).hasSize(1);
+  }
+
+  @Test
+  public void shouldDropATornLastEntry() throws IOException {
+    saveTopics(10, "topicA");
+    Files.write(
+        journalPath,
+        "1234 {\"added\":".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    assertThat(loadTopics(10)).containsOnly("topicA");
+    assertThat(journalLines()).hasSize(1);
+
+    saveTopics(10, "topicA", "topicB");
+    assertThat(loadTopics(10)).containsOnly("topicA", "topicB");
+  }
+
+  @Test
+  public void shouldFailOnACorruptedEntry() throws IOException {
+    saveTopics(10, "topicA");
+    saveTopics(10, "topicB");
+    List<String> lines = journalLines();
+    Files.write(journalPath, Arrays.asList("0 " + lines.get(0).split(" ", 2)[1], lines.get(1)));
+
+    assertThrows(IOException.class, () -> new JournalFileBackend(snapshotPath, 10).load());
+  }
+
+  private void saveTopics(int compactionThreshold, String... topics) throws IOException {
+    JournalFileBackend backend = new JournalFileBackend(snapshotPath, compactionThreshold);
+    backend.load();
+    BackendState state = new BackendState();
+    state.addTopics(Arrays.asList(topics));
+    backend.save(state);
+    backend.close();
+  }
+
+  private List<String> loadTopics(int compactionThreshold) throws IOException {
+    return Arrays.asList(
+        new JournalFileBackend(snapshotPath, compactionThreshold)
+            .load()
+            .getTopics()
+            .toArray(new String[0]));
+  }
+
+  private List<String> journalLines() throws IOException {
+    return Files.readAllLines(journalPath);
+  }
+}
@@ -1,13 +1,22 @@
 package com.purbon.kafka.topology.backend;
 
+import static com.purbon.kafka.topology.backend.RedisBackend.JULIE_OPS_ACCOUNTS;
 import static com.purbon.kafka.topology.backend.RedisBackend.JULIE_OPS_BINDINGS;
-import static com.purbon.kafka.topology.backend.RedisBackend.JULIE_OPS_TYPE;
+import static com.purbon.kafka.topology.backend.RedisBackend.JULIE_OPS_TOPICS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
 
+import com.purbon.kafka.topology.BackendController.Mode;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
@@ -16,11 +25,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 
 public class RedisBackendTest {
 
   @Mock Jedis jedis;
 
+  @Mock Pipeline pipeline;
+
   @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
 
   private RedisBackend stateProcessor;
@@ -28,35 +41,83 @@ public class RedisBackendTest {
   @Before
   public void before() {
     stateProcessor = new RedisBackend(jedis);
+    when(jedis.pipelined()).thenReturn(pipeline);
+    Response<Set<String>> noMembers = response(Collections.emptySet());
+    when(pipeline.smembers(anyString())).thenReturn(noMembers);
+    Response<List<Object>> execResult = response(Collections.emptyList());
+    when(pipeline.exec()).thenReturn(execResult);
   }
 
   @Test
-  public void testSaveBindings() {
+  public void testSaveBindings() throws IOException {
 
     TopologyAclBinding binding =
         TopologyAclBinding.build(
             ResourceType.CLUSTER.name(), "Topic", "host", "op", "principal", "LITERAL");
 
-    when(jedis.sadd(eq(JULIE_OPS_BINDINGS), any())).thenReturn(1L);
-
     BackendState state = new BackendState();
     state.addBindings(Collections.singleton(binding));
+    stateProcessor.createOrOpen(Mode.TRUNCATE);
     stateProcessor.save(state);
 
-    verify(jedis, times(1)).sadd(eq(JULIE_OPS_BINDINGS), any());
+    verify(pipeline, times(1)).multi();
+    verify(pipeline, times(1)).del((String[]) any());
+    verify(pipeline, times(1)).sadd(JULIE_OPS_BINDINGS, JSON.asString(binding));
+    verify(pipeline, times(1)).exec();
+    verify(pipeline, times(1)).sync();
+    verify(pipeline, never()).srem(anyString(), (String[]) any());
   }
 
   @Test
   public void testDataLoading() throws IOException {
 
-    when(jedis.get(eq(JULIE_OPS_TYPE))).thenReturn("acls");
-    when(jedis.scard(eq(JULIE_OPS_BINDINGS))).thenReturn(10L);
-    when(jedis.spop(eq(JULIE_OPS_BINDINGS)))
-        .thenReturn(
-            "'TOPIC', 'topicA', '*', 'READ', 'User:C=NO,CN=John Doe,emailAddress=john.doe@example.com', 'LITERAL'")
-        .thenReturn("'TOPIC', 'topicB', '*', 'READ', 'User:Connect1', 'LITERAL'");
+    TopologyAclBinding binding =
+        TopologyAclBinding.build(
+            ResourceType.TOPIC.name(), "topicC", "*", "READ", "User:foo", "LITERAL");
+    stubMembers(
+        JULIE_OPS_BINDINGS,
+        "'TOPIC', 'topicA', '*', 'READ', 'User:C=NO,CN=John Doe,emailAddress=john.doe@example.com', 'LITERAL'",
+        "'TOPIC', 'topicB', '*', 'READ', 'User:Connect1', 'LITERAL'",
+        JSON.asString(binding));
+    stubMembers(JULIE_OPS_TOPICS, "topicA");
+    stubMembers(JULIE_OPS_ACCOUNTS, JSON.asString(new ServiceAccount(1, "foo", "bar")));
+
+    BackendState state = stateProcessor.load();
+
+    assertEquals(5, state.size());
+    assertThat(state.getBindings()).contains(binding);
+    verify(pipeline, times(1)).sync();
+  }
+
+  @Test
+  public void testSaveOnlyTheChanges() throws IOException {
+    stubMembers(JULIE_OPS_TOPICS, "topicA", "topicB");
 
     BackendState state = stateProcessor.load();
-    assertEquals(2, state.size());
+    state.getTopics().remove("topicA");
+    state.addTopics(Collections.singleton("topicC"));
+
+    stateProcessor.createOrOpen(Mode.TRUNCATE);
+    stateProcessor.save(state);
+
+    verify(pipeline, never()).del((String[]) any());
+    verify(pipeline, times(1)).sadd(JULIE_OPS_TOPICS, "topicC");
+    verify(pipeline, times(1)).srem(JULIE_OPS_TOPICS, "topicA");
+    verify(pipeline, times(1)).exec();
+
+    stateProcessor.save(state);
+    verify(pipeline, times(1)).sadd(anyString(), (String[]) any());
+  }
+
+  private void stubMembers(String key, String... members) {
+    Response<Set<String>> response = response(new HashSet<>(Arrays.asList(members)));
+    when(pipeline.smembers(eq(key))).thenReturn(response);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Response<T> response(T value) {
+    Response<T> response = mock(Response.class);
+    when(response.get()).thenReturn(value);
+    return response;
   }
 }
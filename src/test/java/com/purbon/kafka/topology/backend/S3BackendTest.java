@@ -0,0 +1,114 @@
+package com.purbon.kafka.topology.backend;
+
+import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
+import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
+import static com.purbon.kafka.topology.Constants.JULIE_S3_BUCKET;
+import static com.purbon.kafka.topology.Constants.JULIE_S3_REGION;
+import static com.purbon.kafka.topology.Constants.STATE_CACHE_DIR_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.backend.codec.StateFormat;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+public class S3BackendTest {
+
+  private static final String BUCKET = "bucket";
+  private static final String CACHE_NAME = "s3-" + BUCKET + "-" + STATE_FILE_NAME;
+
+  @Mock S3Client s3;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Configuration config;
+  private StateCache cache;
+  private S3Backend backend;
+
+  @Before
+  public void before() {
+    Map<String, String> cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+    Properties props = new Properties();
+    props.put(JULIE_S3_REGION, "us-west-2");
+    props.put(JULIE_S3_BUCKET, BUCKET);
+    props.put(STATE_CACHE_DIR_CONFIG, folder.getRoot().getAbsolutePath());
+    config = new Configuration(cliOps, props);
+    cache = StateCache.from(config);
+
+    backend = new S3Backend(s3);
+    backend.configure(config);
+  }
+
+  @Test
+  public void shouldLoadAnUnchangedStateFromTheLocalCopy() throws IOException {
+    cache.put(CACHE_NAME, "etag-1", encode(state("foo")));
+    when(s3.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenThrow(S3Exception.builder().statusCode(304).build());
+
+    assertThat(backend.load().getTopics()).containsOnly("foo");
+
+    ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+    verify(s3).getObjectAsBytes(request.capture());
+    assertThat(request.getValue().ifNoneMatch()).isEqualTo("etag-1");
+  }
+
+  @Test
+  public void shouldReadAChangedStateAndKeepALocalCopy() throws IOException {
+    cache.put(CACHE_NAME, "etag-1", encode(state("foo")));
+    when(s3.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().eTag("etag-2").build(), encode(state("bar"))));
+
+    assertThat(backend.load().getTopics()).containsOnly("bar");
+
+    StateCache.Entry cached = cache.get(CACHE_NAME);
+    assertThat(cached.getTag()).isEqualTo("etag-2");
+    assertThat(cached.getContent()).isEqualTo(encode(state("bar")));
+  }
+
+  @Test
+  public void shouldReadTheWholeStateWithoutALocalCopy() throws IOException {
+    when(s3.getObjectAsBytes(any(GetObjectRequest.class)))
+        .thenReturn(
+            ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().eTag("etag-1").build(), encode(state("foo"))));
+
+    assertThat(backend.load().getTopics()).containsOnly("foo");
+
+    ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+    verify(s3).getObjectAsBytes(request.capture());
+    assertThat(request.getValue().ifNoneMatch()).isNull();
+  }
+
+  private byte[] encode(BackendState state) throws IOException {
+    return StateFormat.from(config).encode(state);
+  }
+
+  private BackendState state(String topic) {
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton(topic));
+    return state;
+  }
+}
@@ -0,0 +1,46 @@
+package com.purbon.kafka.topology.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StateCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldKeepTheContentWithItsTag() throws IOException {
+    StateCache cache = new StateCache(folder.getRoot().toPath().resolve("cache"));
+    byte[] content = "{\"topics\":[\"foo\"]}\n".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(cache.get("s3-bucket-.cluster-state")).isNull();
+
+    cache.put("s3-bucket-.cluster-state", "\"etag-1\"", content);
+    cache.put("s3-bucket-.cluster-state", "\"etag-2\"", content);
+
+    StateCache.Entry entry = cache.get("s3-bucket-.cluster-state");
+    assertThat(entry.getTag()).isEqualTo("\"etag-2\"");
+    assertThat(entry.getContent()).isEqualTo(content);
+  }
+
+  @Test
+  public void shouldDoNothingWhenDisabled() throws IOException {
+    StateCache cache = new StateCache(null);
+    cache.put("gcp-bucket-.cluster-state", "1", new byte[] {1, 2});
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get("gcp-bucket-.cluster-state")).isNull();
+  }
+
+  @Test
+  public void shouldHashTheContent() {
+    byte[] content = "foo".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(StateCache.hash(content)).isEqualTo(StateCache.hash(content.clone()));
+    assertThat(StateCache.hash(content)).isNotEqualTo(StateCache.hash(new byte[] {1}));
+  }
+}
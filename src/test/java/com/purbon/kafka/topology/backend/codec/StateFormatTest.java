@@ -0,0 +1,118 @@
+package com.purbon.kafka.topology.backend.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.purbon.kafka.topology.api.mds.ClusterIDs;
+import com.purbon.kafka.topology.api.mds.RequestScope;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
+import com.purbon.kafka.topology.utils.TestUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class StateFormatTest {
+
+  @Test
+  public void shouldRoundtripWithTheBinaryCodec() throws IOException {
+    verifyRoundtrip(new StateFormat(new BinaryStateCodec(), StateCompression.NONE));
+  }
+
+  @Test
+  public void shouldRoundtripWithCompression() throws IOException {
+    verifyRoundtrip(new StateFormat(new BinaryStateCodec(), StateCompression.GZIP));
+    verifyRoundtrip(new StateFormat(new JsonStateCodec(), StateCompression.GZIP));
+  }
+
+  @Test
+  public void shouldKeepPlainJsonAsTheDefault() throws IOException {
+    BackendState state = sampleState();
+    byte[] content = new StateFormat().encode(state);
+
+    assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo(state.asJson() + "\n");
+    verifyRoundtrip(new StateFormat());
+  }
+
+  @Test
+  public void shouldDetectTheFormatOfTheContent() throws IOException {
+    BackendState state = sampleState();
+    byte[] binary = new StateFormat(new BinaryStateCodec(), StateCompression.GZIP).encode(state);
+    byte[] legacy = state.asJson().getBytes(StandardCharsets.UTF_8);
+
+    StateFormat format = new StateFormat();
+    assertThat(format.decode(binary).getBindings()).isEqualTo(state.getBindings());
+    assertThat(format.decode(legacy).getBindings()).isEqualTo(state.getBindings());
+  }
+
+  @Test
+  public void shouldBeSmallerThanJsonForRepeatedValues() throws IOException {
+    String content = Files.readString(TestUtils.getResourceFile("/stateFile.json").toPath());
+    BackendState state = (BackendState) JSON.toObject(content, BackendState.class);
+
+    byte[] json = new StateFormat().encode(state);
+    byte[] binary = new StateFormat(new BinaryStateCodec(), StateCompression.NONE).encode(state);
+
+    assertThat(binary.length).isLessThan(json.length / 2);
+    assertThat(new StateFormat().decode(binary).getBindings()).isEqualTo(state.getBindings());
+  }
+
+  @Test
+  public void shouldFailOnAnUnknownCodec() throws IOException {
+    byte[] content =
+        new StateFormat(new BinaryStateCodec(), StateCompression.NONE).encode(sampleState());
+    content[StateFormat.MAGIC.length + 1] = 42;
+
+    assertThrows(IOException.class, () -> new StateFormat().decode(content));
+  }
+
+  private void verifyRoundtrip(StateFormat format) throws IOException {
+    BackendState state = sampleState();
+    BackendState decoded = format.decode(format.encode(state));
+
+    assertThat(decoded.getBindings()).isEqualTo(state.getBindings());
+    assertThat(decoded.getTopics()).isEqualTo(state.getTopics());
+    assertThat(decoded.getAccounts()).isEqualTo(state.getAccounts());
+    assertThat(decoded.getConnectors()).isEqualTo(state.getConnectors());
+    assertThat(decoded.getKSqlStreams()).isEqualTo(state.getKSqlStreams());
+    assertThat(decoded.getKSqlTables()).isEmpty();
+
+    TopologyAclBinding scoped =
+        decoded.getBindings().stream().filter(b -> b.getScope() != null).findFirst().get();
+    assertThat(scoped.getScope().getResources()).hasSize(1);
+    assertThat(scoped.getScope().clusterIDs()).hasSize(1);
+  }
+
+  private BackendState sampleState() {
+    TopologyAclBinding binding =
+        new TopologyAclBinding("TOPIC", "topicA", "*", "READ", "User:foo", "LITERAL");
+    TopologyAclBinding other =
+        new TopologyAclBinding("TOPIC", "topicB", "*", "READ", "User:foo", "LITERAL");
+
+    RequestScope scope = new RequestScope();
+    ClusterIDs clusterIDs = new ClusterIDs();
+    clusterIDs.setKafkaClusterId("kafka");
+    scope.setClusters(clusterIDs.forKafka().asMap());
+    scope.addResource("Topic", "topicA", "LITERAL");
+    TopologyAclBinding rbac =
+        new TopologyAclBinding("TOPIC", "topicA", "*", "DeveloperRead", "User:bar", "LITERAL");
+    rbac.setScope(scope);
+
+    BackendState state = new BackendState();
+    state.addBindings(Arrays.asList(binding, other, rbac));
+    state.addTopics(Arrays.asList("topicA", "topicB"));
+    state.addAccounts(Collections.singleton(new ServiceAccount(1, "sa-foo", "Foo", "sa-1")));
+    state.addConnectors(
+        Collections.singleton(new KafkaConnectArtefact("connectors/foo.json", null, "foo")));
+    state.addKSqlStreams(
+        Collections.singleton(new KsqlStreamArtefact("ksql/stream.sql", "ksql", "stream")));
+    return state;
+  }
+}
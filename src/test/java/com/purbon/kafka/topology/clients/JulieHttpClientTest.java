@@ -0,0 +1,193 @@
+package com.purbon.kafka.topology.clients;
+
+import static com.purbon.kafka.topology.Constants.HTTP_MAX_IN_FLIGHT_CONFIG;
+import static com.purbon.kafka.topology.Constants.HTTP_RETRY_BACKOFF_MS_CONFIG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.purbon.kafka.topology.Configuration;
+import com.purbon.kafka.topology.api.mds.RbacResourceType;
+import com.purbon.kafka.topology.api.mds.Response;
+import com.purbon.kafka.topology.utils.JSON;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JulieHttpClientTest {
+
+  private HttpServer server;
+  private AtomicInteger calls;
+  private int failedCalls;
+  private String responseBody;
+  private TestHttpClient client;
+
+  @Before
+  public void before() throws IOException {
+    calls = new AtomicInteger();
+    failedCalls = 2;
+    responseBody = "{}";
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          // the first requests fail as if the server was overloaded
+          int status = calls.incrementAndGet() <= failedCalls ? 503 : 200;
+          byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(status, body.length > 0 ? body.length : -1);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+    server.start();
+
+    Map<String, String> cliOps = new HashMap<>();
+    Map<String, Object> props = new HashMap<>();
+    props.put(HTTP_RETRY_BACKOFF_MS_CONFIG, "1");
+    Configuration config = new Configuration(cliOps, props);
+    client = new TestHttpClient("http://localhost:" + server.getAddress().getPort(), config);
+  }
+
+  @After
+  public void after() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldRetryIdempotentRequests() throws IOException {
+    Response response = client.doGet("/connectors/foo:bar");
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(calls.get()).isEqualTo(3);
+
+    HttpEndpointMetrics metrics = client.getMetrics().get("GET /connectors/*");
+    assertThat(metrics.getRequests()).isEqualTo(3);
+    assertThat(metrics.getFailures()).isEqualTo(2);
+    assertThat(metrics.getRetries()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldCollapsePathParametersInEndpoints() throws IOException {
+    failedCalls = 0;
+    client.doGet("/connectors/source-a/config");
+    client.doGet("/connectors/source-b/config");
+    client.doGet("/connectors/source-b/tasks/0/status");
+    client.doGet("/connector-plugins/FileStreamSource/config/validate");
+    client.doGet("/security/1.0/principals/User:foo/roles/DeveloperRead");
+
+    assertThat(client.getMetrics())
+        .containsOnlyKeys(
+            "GET /connectors/*/config",
+            "GET /connectors/*/tasks/*/status",
+            "GET /connector-plugins/*/config/validate",
+            "GET /security/1.0/principals/*/roles/DeveloperRead");
+    assertThat(client.getMetrics().get("GET /connectors/*/config").getRequests()).isEqualTo(2);
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldNotRetryPostRequests() throws IOException {
+    try {
+      client.doPost("/connectors", "{}");
+    } finally {
+      assertThat(calls.get()).isEqualTo(1);
+      assertThat(client.getMetrics().get("POST /connectors").getRetries()).isZero();
+    }
+  }
+
+  @Test
+  public void shouldReadTypedResponses() throws IOException {
+    failedCalls = 0;
+    responseBody = "[{\"resourceType\":\"Topic\",\"name\":\"foo\",\"patternType\":\"LITERAL\"}]";
+
+    List<RbacResourceType> resources =
+        client.doPost("/resources", "{}", true, JSON.listReader(RbacResourceType.class));
+
+    assertThat(resources).hasSize(1);
+    assertThat(resources.get(0).getName()).isEqualTo("foo");
+    assertThat(resources.get(0).getPatternType()).isEqualTo("LITERAL");
+  }
+
+  @Test
+  public void shouldReadAnEmptyResponseAsNull() throws IOException {
+    failedCalls = 0;
+    responseBody = "";
+
+    List<String> names = client.doGet("/names", JSON.listReader(String.class));
+
+    assertThat(names).isNull();
+  }
+
+  @Test
+  public void shouldFailTypedRequestsWithTheErrorBody() {
+    failedCalls = 1;
+    responseBody = "{\"error_code\":503}";
+
+    assertThatThrownBy(() -> client.doPost("/names", "{}", false, JSON.listReader(String.class)))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("error_code");
+  }
+
+  @Test
+  public void shouldCountTypedRequestsInFlightUntilTheirBodyIsRead() throws Exception {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    HttpServer slowServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    slowServer.setExecutor(Executors.newCachedThreadPool());
+    slowServer.createContext(
+        "/",
+        exchange -> {
+          maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+          exchange.sendResponseHeaders(200, 0);
+          try (OutputStream os = exchange.getResponseBody()) {
+            // the headers are sent right away and the body arrives later
+            os.write("[1,".getBytes(StandardCharsets.UTF_8));
+            os.flush();
+            Thread.sleep(100);
+            active.decrementAndGet();
+            os.write("2]".getBytes(StandardCharsets.UTF_8));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    slowServer.start();
+
+    try {
+      Map<String, Object> props = new HashMap<>();
+      props.put(HTTP_MAX_IN_FLIGHT_CONFIG, "1");
+      Configuration config = new Configuration(new HashMap<>(), props);
+      TestHttpClient slowClient =
+          new TestHttpClient("http://localhost:" + slowServer.getAddress().getPort(), config);
+
+      List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        futures.add(slowClient.doPostAsync("/values", "{}", true, JSON.listReader(Integer.class)));
+      }
+
+      for (CompletableFuture<List<Integer>> future : futures) {
+        assertThat(future.get(10, TimeUnit.SECONDS)).containsExactly(1, 2);
+      }
+      assertThat(maxActive.get()).isEqualTo(1);
+    } finally {
+      slowServer.stop(0);
+    }
+  }
+
+  private static class TestHttpClient extends JulieHttpClient {
+
+    TestHttpClient(String server, Configuration config) {
+      super(server, config);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.purbon.kafka.topology.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class RequestLimiterTest {
+
+  @Test
+  public void shouldKeepTheRequestsInFlightUnderTheLimit() {
+    RequestLimiter limiter = new RequestLimiter(2);
+    List<CompletableFuture<String>> requests = new ArrayList<>();
+    AtomicInteger started = new AtomicInteger();
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      CompletableFuture<String> request = new CompletableFuture<>();
+      requests.add(request);
+      results.add(
+          limiter.submit(
+              () -> {
+                started.incrementAndGet();
+                return request;
+              }));
+    }
+    assertThat(started.get()).isEqualTo(2);
+
+    requests.get(0).complete("0");
+    assertThat(started.get()).isEqualTo(3);
+    assertThat(results.get(0)).isCompletedWithValue("0");
+
+    requests.forEach(request -> request.complete("done"));
+    assertThat(started.get()).isEqualTo(5);
+    assertThat(results).allMatch(CompletableFuture::isDone);
+  }
+
+  @Test
+  public void shouldStartManyQueuedRequestsThatCompleteRightAway() {
+    RequestLimiter limiter = new RequestLimiter(1);
+    CompletableFuture<String> first = new CompletableFuture<>();
+    limiter.submit(() -> first);
+
+    List<CompletableFuture<String>> results = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      int index = i;
+      results.add(
+          limiter.submit(
+              () -> {
+                if (index % 2 == 0) {
+                  return CompletableFuture.completedFuture("ok");
+                }
+                throw new IllegalStateException("failed fast");
+              }));
+    }
+    assertThat(results.get(0)).isNotDone();
+
+    first.complete("first");
+
+    assertThat(results).allMatch(CompletableFuture::isDone);
+    assertThat(results.get(0)).isCompletedWithValue("ok");
+    assertThat(results.get(1)).isCompletedExceptionally();
+  }
+}
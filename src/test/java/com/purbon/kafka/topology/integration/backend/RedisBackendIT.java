@@ -1,9 +1,14 @@
 package com.purbon.kafka.topology.integration.backend;
 
+import com.purbon.kafka.topology.BackendController.Mode;
 import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.backend.RedisBackend;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Assert;
@@ -40,4 +45,41 @@ public class RedisBackendIT {
     Assert.assertEquals(
         binding.getPrincipal(), recoveredState.getBindings().iterator().next().getPrincipal());
   }
+
+  @Test
+  public void testStoreAndFetchTheFullState() throws IOException {
+
+    String host = redis.getContainerIpAddress();
+    int port = redis.getFirstMappedPort();
+    RedisBackend rsp = new RedisBackend(host, port);
+    rsp.createOrOpen(Mode.TRUNCATE);
+
+    BackendState state = new BackendState();
+    state.addTopics(Arrays.asList("topicA", "topicB"));
+    state.addAccounts(Collections.singleton(new ServiceAccount(1, "foo", "bar")));
+    state.addConnectors(
+        Collections.singleton(new KafkaConnectArtefact("connectors/foo.json", "connect", "foo")));
+    state.addKSqlTables(
+        Collections.singleton(new KsqlTableArtefact("ksql/table.sql", "ksql", "table")));
+    rsp.save(state);
+    rsp.close();
+
+    RedisBackend other = new RedisBackend(host, port);
+    other.createOrOpen();
+    BackendState recoveredState = other.load();
+    Assert.assertEquals(state.getTopics(), recoveredState.getTopics());
+    Assert.assertEquals(state.getAccounts(), recoveredState.getAccounts());
+    Assert.assertEquals(state.getConnectors(), recoveredState.getConnectors());
+    Assert.assertEquals(state.getKSqlTables(), recoveredState.getKSqlTables());
+
+    recoveredState.getTopics().remove("topicA");
+    other.createOrOpen(Mode.TRUNCATE);
+    other.save(recoveredState);
+    other.close();
+
+    RedisBackend last = new RedisBackend(host, port);
+    last.createOrOpen();
+    Assert.assertEquals(Collections.singleton("topicB"), last.load().getTopics());
+    last.close();
+  }
 }
@@ -3,6 +3,7 @@ package com.purbon.kafka.topology.integration.backend;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.JULIE_S3_BUCKET;
 import static com.purbon.kafka.topology.Constants.JULIE_S3_REGION;
+import static com.purbon.kafka.topology.Constants.STATE_CACHE_DIR_CONFIG;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -25,23 +26,25 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import org.apache.kafka.common.resource.ResourceType;
-import org.junit.After;
+import org.junit.AfterClass;
 import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class S3BackendIT {
 
-  private S3Mock api;
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private static S3Mock api;
   private Map<String, String> cliOps;
 
   private static final String TEST_BUCKET = "testbucket";
   private static final String TEST_ENDPOINT = "http://127.0.0.1:8001";
 
-  @Before
-  public void before() {
-    cliOps = new HashMap<>();
-    cliOps.put(BROKERS_OPTION, "");
-
+  @BeforeClass
+  public static void beforeClass() {
     String tmpDir = System.getProperty("java.io.tmpdir");
     Path s3Path = Paths.get(tmpDir, "s3");
     api = S3Mock.create(8001, s3Path.toFile().getAbsolutePath());
@@ -59,11 +62,17 @@ public class S3BackendIT {
     client.createBucket(TEST_BUCKET);
   }
 
-  @After
-  public void after() {
+  @AfterClass
+  public static void afterClass() {
     api.shutdown();
   }
 
+  @Before
+  public void before() {
+    cliOps = new HashMap<>();
+    cliOps.put(BROKERS_OPTION, "");
+  }
+
   @Test
   public void testContentCreation() throws IOException {
 
@@ -92,4 +101,28 @@ public class S3BackendIT {
     assertThat(newState.size()).isEqualTo(1);
     assertThat(newState.getBindings()).contains(binding);
   }
+
+  @Test
+  public void testLoadWithALocalCopy() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_S3_REGION, "us-west-2");
+    props.put(JULIE_S3_BUCKET, TEST_BUCKET);
+    props.put(STATE_CACHE_DIR_CONFIG, folder.getRoot().getAbsolutePath());
+    Configuration config = new Configuration(cliOps, props);
+
+    S3Backend backend = new S3Backend();
+    backend.configure(config, URI.create(TEST_ENDPOINT), true);
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton("foo"));
+    backend.save(state);
+    backend.close();
+
+    for (int i = 0; i < 2; i++) {
+      S3Backend newBackend = new S3Backend();
+      newBackend.configure(config, URI.create(TEST_ENDPOINT), true);
+      assertThat(newBackend.load().getTopics()).containsOnly("foo");
+      newBackend.close();
+      assertThat(folder.getRoot().listFiles()).hasSize(1);
+    }
+  }
 }
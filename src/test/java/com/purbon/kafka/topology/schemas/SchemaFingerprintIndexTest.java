@@ -0,0 +1,64 @@
+package com.purbon.kafka.topology.schemas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.backend.StateCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaFingerprintIndexTest {
+
+  private static final String URL = "http://localhost:8081";
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldKeepTheRegisteredSubjectsBetweenRuns() throws IOException {
+    StateCache cache = new StateCache(folder.newFolder("cache").toPath());
+    String fingerprint = SchemaFingerprintIndex.fingerprint("AVRO", "\"string\"");
+
+    SchemaFingerprintIndex index = new SchemaFingerprintIndex(cache, URL);
+    assertThat(index.isRegistered("foo-value", fingerprint, Optional.empty())).isFalse();
+    index.putRegistered("foo-value", fingerprint, Optional.of("backward"));
+    index.save();
+
+    index = new SchemaFingerprintIndex(cache, URL);
+    assertThat(index.isRegistered("foo-value", fingerprint, Optional.of("BACKWARD"))).isTrue();
+    assertThat(index.isRegistered("foo-value", fingerprint, Optional.empty())).isFalse();
+    assertThat(
+            index.isRegistered(
+                "foo-value",
+                SchemaFingerprintIndex.fingerprint("JSON", "\"string\""),
+                Optional.of("BACKWARD")))
+        .isFalse();
+
+    // every schema registry has its own index
+    index = new SchemaFingerprintIndex(cache, "http://other:8081");
+    assertThat(index.isRegistered("foo-value", fingerprint, Optional.of("BACKWARD"))).isFalse();
+  }
+
+  @Test
+  public void shouldForgetTheFingerprintOfChangedFiles() throws IOException {
+    StateCache cache = new StateCache(folder.newFolder("cache").toPath());
+    Path file = folder.newFile("foo-value.avsc").toPath();
+    Files.writeString(file, "\"string\"");
+    long modified = Files.getLastModifiedTime(file).toMillis();
+
+    SchemaFingerprintIndex index = new SchemaFingerprintIndex(cache, URL);
+    assertThat(index.fileFingerprint(file, "AVRO")).isNull();
+    index.putFileFingerprint(file, "AVRO", modified, Files.size(file), "fingerprint");
+    index.save();
+
+    index = new SchemaFingerprintIndex(cache, URL);
+    assertThat(index.fileFingerprint(file, "AVRO")).isEqualTo("fingerprint");
+    assertThat(index.fileFingerprint(file, "JSON")).isNull();
+
+    Files.writeString(file, "\"long\"");
+    assertThat(index.fileFingerprint(file, "AVRO")).isNull();
+  }
+}
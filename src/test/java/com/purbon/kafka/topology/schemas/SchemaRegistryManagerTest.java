@@ -22,6 +22,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -260,6 +261,59 @@ public class SchemaRegistryManagerTest {
     assertThat(client.testCompatibility(subjectName, parsedUpdatedSampleSchema)).isFalse();
   }
 
+  @Test
+  public void shouldRememberTheRegisteredSchemas() {
+    String schemaFile = "schemas/bar-value.avsc";
+    Optional<String> compatibility = Optional.of("BACKWARD");
+    assertThat(manager.isRegistered(subjectName, schemaFile, AvroSchema.TYPE, compatibility))
+        .isFalse();
+
+    manager.register(subjectName, schemaFile, AvroSchema.TYPE);
+    manager.setCompatibility(subjectName, compatibility.get());
+    manager.registered(subjectName, schemaFile, AvroSchema.TYPE, compatibility);
+
+    assertThat(manager.isRegistered(subjectName, schemaFile, AvroSchema.TYPE, compatibility))
+        .isTrue();
+    assertThat(manager.isRegistered(subjectName, schemaFile, AvroSchema.TYPE, Optional.empty()))
+        .isFalse();
+    assertThat(manager.isRegistered("other", schemaFile, AvroSchema.TYPE, compatibility)).isFalse();
+  }
+
+  @Test
+  public void shouldFindSubjectsChangedInTheRegistry() throws Exception {
+    String schemaFile = "schemas/bar-value.avsc";
+    Optional<String> compatibility = Optional.of("BACKWARD");
+    SchemaFingerprintIndex index = new SchemaFingerprintIndex();
+    manager = new SchemaRegistryManager(client, rootDir.toString(), index);
+
+    manager.register(subjectName, schemaFile, AvroSchema.TYPE);
+    manager.setCompatibility(subjectName, compatibility.get());
+    manager.registered(subjectName, schemaFile, AvroSchema.TYPE, compatibility);
+    assertThat(manager.isRegistered(subjectName, schemaFile, AvroSchema.TYPE, compatibility))
+        .isTrue();
+    assertThat(manager.isLatest(subjectName, schemaFile, AvroSchema.TYPE, compatibility)).isTrue();
+
+    // changed by somebody else
+    manager.setCompatibility(subjectName, "NONE");
+    assertThat(manager.isLatest(subjectName, schemaFile, AvroSchema.TYPE, compatibility)).isFalse();
+    manager.register(subjectName, "schemas/test-backward-compatible.avsc", AvroSchema.TYPE);
+    manager.setCompatibility(subjectName, compatibility.get());
+    assertThat(manager.isLatest(subjectName, schemaFile, AvroSchema.TYPE, compatibility)).isFalse();
+
+    // deleted, the index alone does not know
+    client.deleteSubject(subjectName);
+    assertThat(manager.isRegistered(subjectName, schemaFile, AvroSchema.TYPE, compatibility))
+        .isTrue();
+    assertThat(manager.isLatest(subjectName, schemaFile, AvroSchema.TYPE, compatibility)).isFalse();
+
+    // a new registry at the same address
+    List<SchemaProvider> providers = Collections.singletonList(new AvroSchemaProvider());
+    manager =
+        new SchemaRegistryManager(
+            new MockSchemaRegistryClient(providers), rootDir.toString(), index);
+    assertThat(manager.isLatest(subjectName, schemaFile, AvroSchema.TYPE, compatibility)).isFalse();
+  }
+
   @Test(expected = SchemaRegistryManager.SchemaRegistryManagerException.class)
   public void shouldFailForTheUnknownType() {
 
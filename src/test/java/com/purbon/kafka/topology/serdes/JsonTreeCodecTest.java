@@ -0,0 +1,41 @@
+package com.purbon.kafka.topology.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class JsonTreeCodecTest {
+
+  @Test
+  public void shouldDecodeTheEncodedTree() throws IOException {
+    String yaml =
+        "context: \"contextOrg\"\n"
+            + "projects:\n"
+            + "  - name: \"foo\"\n"
+            + "    enabled: true\n"
+            + "    owner: null\n"
+            + "    topics:\n"
+            + "      - name: \"foo\"\n"
+            + "        config:\n"
+            + "          replication.factor: 3\n"
+            + "          retention.ms: 604800000000\n"
+            + "          ratio: 0.5\n"
+            + "      - name: \"bar\"\n"
+            + "        config:\n"
+            + "          replication.factor: 3\n";
+    JsonNode tree = new ObjectMapper(new YAMLFactory()).readTree(yaml);
+
+    byte[] encoded = JsonTreeCodec.encode(tree);
+    JsonNode decoded = JsonTreeCodec.decode(encoded);
+
+    assertThat(decoded).isEqualTo(tree);
+    assertThat(decoded.at("/projects/0/topics/0/config/retention.ms").isLong()).isTrue();
+    // repeated keys and values are only stored once
+    assertThat(encoded.length).isLessThan(yaml.getBytes(StandardCharsets.UTF_8).length);
+  }
+}
@@ -0,0 +1,32 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+
+public class JinjaUtilsTest {
+
+  @Test
+  public void shouldRenderTheSameFormatWithDifferentContexts() {
+    String format = "{{context}}.{{project}}";
+
+    assertThat(JinjaUtils.serialise(format, Map.of("context", "ctx", "project", "foo")))
+        .isEqualTo("ctx.foo");
+    assertThat(JinjaUtils.serialise(format, Map.of("context", "ctx", "project", "bar")))
+        .isEqualTo("ctx.bar");
+  }
+
+  @Test
+  public void shouldFailEveryTimeForAFormatThatDoesNotParse() {
+    String format = "{% if %}{{project}}";
+
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> JinjaUtils.serialise(format, Collections.emptyMap()))
+          .isInstanceOf(FatalTemplateErrorsException.class);
+    }
+  }
+}
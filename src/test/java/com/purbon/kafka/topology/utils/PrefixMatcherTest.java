@@ -0,0 +1,66 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class PrefixMatcherTest {
+
+  @Test
+  public void testMatches() {
+    PrefixMatcher matcher = new PrefixMatcher(Arrays.asList("team.a", "team.b.", "other", "team"));
+
+    assertThat(matcher.matches("team")).isTrue();
+    assertThat(matcher.matches("team.a.topic")).isTrue();
+    assertThat(matcher.matches("teams")).isTrue();
+    assertThat(matcher.matches("other.topic")).isTrue();
+    assertThat(matcher.matches("tea")).isFalse();
+    assertThat(matcher.matches("another")).isFalse();
+    assertThat(matcher.matches("")).isFalse();
+  }
+
+  @Test
+  public void testEmptyMatcher() {
+    PrefixMatcher matcher = new PrefixMatcher(Collections.emptyList());
+
+    assertThat(matcher.isEmpty()).isTrue();
+    assertThat(matcher.matches("topic")).isFalse();
+  }
+
+  @Test
+  public void testEmptyPrefixMatchesEverything() {
+    PrefixMatcher matcher = new PrefixMatcher(Arrays.asList("team", ""));
+
+    assertThat(matcher.matches("")).isTrue();
+    assertThat(matcher.matches("topic")).isTrue();
+  }
+
+  @Test
+  public void testSameResultsAsLinearScan() {
+    Random random = new Random(42);
+    List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      prefixes.add(randomName(random, 1 + random.nextInt(6)));
+    }
+    PrefixMatcher matcher = new PrefixMatcher(prefixes);
+
+    for (int i = 0; i < 200_000; i++) {
+      String name = randomName(random, random.nextInt(10));
+      boolean expected = prefixes.stream().anyMatch(name::startsWith);
+      assertThat(matcher.matches(name)).as(name).isEqualTo(expected);
+    }
+  }
+
+  private static String randomName(Random random, int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append("ab._".charAt(random.nextInt(4)));
+    }
+    return sb.toString();
+  }
+}